@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
+import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+
+/// Source-level discovery of the entity classes a managed type associates to.
+///
+/// Binders resolve association targets while binding members.  Scheduling decisions
+/// need the same information before any binder runs, so this helper reads it
+/// directly from the categorized attributes and their Hibernate Models members:
+///
+/// - to-one targets (`@ManyToOne`, `@OneToOne`), honoring `targetEntity`
+/// - plural association targets (`@OneToMany`, `@ManyToMany`), honoring `targetEntity`
+/// - associations declared inside embedded values and element-collection
+///   embeddables, recursively
+///
+/// Attributes declared on mapped-superclass ancestors are included because they are
+/// bound by the entity binder.  The result may contain classes which are not
+/// entities (for example a misconfigured target); callers resolve the reported
+/// classes against their own registries and ignore those they do not know.
+///
+/// @author Steve Ebersole
+public final class AssociationTargets {
+	private AssociationTargets() {
+	}
+
+	/// Visit the association target classes of the given type.
+	///
+	/// A target may be reported more than once.
+	public static void forEachTarget(
+			IdentifiableTypeMetadata type,
+			ClassDetailsRegistry classDetailsRegistry,
+			Consumer<ClassDetails> targetConsumer) {
+		final Set<ClassDetails> visitedEmbeddables = new HashSet<>();
+		IdentifiableTypeMetadata current = type;
+		while ( current != null ) {
+			current.forEachAttribute( (index, attribute) -> {
+				visitAttribute( attribute, classDetailsRegistry, targetConsumer, visitedEmbeddables );
+			} );
+			current = current.getSuperType();
+			if ( current != null && current.getManagedTypeKind() != ManagedTypeMetadata.Kind.MAPPED_SUPER ) {
+				// attributes of entity super types are bound by their own binder
+				break;
+			}
+		}
+	}
+
+	private static void visitAttribute(
+			AttributeMetadata attribute,
+			ClassDetailsRegistry classDetailsRegistry,
+			Consumer<ClassDetails> targetConsumer,
+			Set<ClassDetails> visitedEmbeddables) {
+		switch ( attribute.getNature() ) {
+			case TO_ONE, ONE_TO_MANY, MANY_TO_MANY, EMBEDDED, ELEMENT_COLLECTION ->
+					visitMember( attribute.getMember(), classDetailsRegistry, targetConsumer, visitedEmbeddables );
+			default -> {
+			}
+		}
+	}
+
+	private static void visitMember(
+			MemberDetails member,
+			ClassDetailsRegistry classDetailsRegistry,
+			Consumer<ClassDetails> targetConsumer,
+			Set<ClassDetails> visitedEmbeddables) {
+		final ManyToOne manyToOne = member.getDirectAnnotationUsage( ManyToOne.class );
+		if ( manyToOne != null ) {
+			targetConsumer.accept( target( manyToOne.targetEntity(), member.getType(), classDetailsRegistry ) );
+			return;
+		}
+		final OneToOne oneToOne = member.getDirectAnnotationUsage( OneToOne.class );
+		if ( oneToOne != null ) {
+			targetConsumer.accept( target( oneToOne.targetEntity(), member.getType(), classDetailsRegistry ) );
+			return;
+		}
+		final OneToMany oneToMany = member.getDirectAnnotationUsage( OneToMany.class );
+		if ( oneToMany != null ) {
+			targetConsumer.accept( target( oneToMany.targetEntity(), member.getElementType(), classDetailsRegistry ) );
+			return;
+		}
+		final ManyToMany manyToMany = member.getDirectAnnotationUsage( ManyToMany.class );
+		if ( manyToMany != null ) {
+			targetConsumer.accept( target( manyToMany.targetEntity(), member.getElementType(), classDetailsRegistry ) );
+			return;
+		}
+
+		final TypeDetails valueType = member.hasDirectAnnotationUsage( ElementCollection.class )
+				? member.getElementType()
+				: member.getType();
+		if ( valueType == null ) {
+			return;
+		}
+		final ClassDetails valueClass = valueType.determineRawClass();
+		if ( valueClass.hasDirectAnnotationUsage( Embeddable.class ) && visitedEmbeddables.add( valueClass ) ) {
+			visitEmbeddable( valueClass, classDetailsRegistry, targetConsumer, visitedEmbeddables );
+		}
+	}
+
+	private static void visitEmbeddable(
+			ClassDetails embeddable,
+			ClassDetailsRegistry classDetailsRegistry,
+			Consumer<ClassDetails> targetConsumer,
+			Set<ClassDetails> visitedEmbeddables) {
+		// the embeddable access type is not known here, so consider both fields and
+		// getters; over-reporting targets is harmless for scheduling
+		embeddable.getFields().forEach( (field) -> visitMember( field, classDetailsRegistry, targetConsumer, visitedEmbeddables ) );
+		embeddable.getMethods().forEach( (method) -> {
+			if ( method.getType() != null ) {
+				visitMember( method, classDetailsRegistry, targetConsumer, visitedEmbeddables );
+			}
+		} );
+		if ( embeddable.getSuperClass() != null && embeddable.getSuperClass().hasDirectAnnotationUsage( Embeddable.class ) ) {
+			if ( visitedEmbeddables.add( embeddable.getSuperClass() ) ) {
+				visitEmbeddable( embeddable.getSuperClass(), classDetailsRegistry, targetConsumer, visitedEmbeddables );
+			}
+		}
+	}
+
+	private static ClassDetails target(
+			Class<?> explicitTarget,
+			TypeDetails memberType,
+			ClassDetailsRegistry classDetailsRegistry) {
+		if ( explicitTarget != void.class ) {
+			return classDetailsRegistry.resolveClassDetails( explicitTarget.getName() );
+		}
+		return memberType.determineRawClass();
+	}
+}
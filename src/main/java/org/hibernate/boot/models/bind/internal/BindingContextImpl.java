@@ -10,6 +10,7 @@ import org.hibernate.boot.models.bind.spi.BindingContext;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
 import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
+import org.hibernate.models.spi.ModelsContext;
 
 import jakarta.persistence.SharedCacheMode;
 
@@ -29,14 +30,27 @@ public class BindingContextImpl implements BindingContext {
 	private final PhysicalNamingStrategy physicalNamingStrategy;
 	private final SharedCacheMode sharedCacheMode;
 	private final BootstrapContext bootstrapContext;
+	private final ModelsContext modelsContext;
 
 	public BindingContextImpl(CategorizedDomainModel categorizedDomainModel, BootstrapContext bootstrapContext) {
+		this( categorizedDomainModel, bootstrapContext.getModelsContext(), bootstrapContext );
+	}
+
+	/// Context for binding a categorized model built against another bootstrap's
+	/// models context.
+	///
+	/// @see org.hibernate.boot.models.categorize.spi.SharedCategorizedDomainModels
+	public BindingContextImpl(
+			CategorizedDomainModel categorizedDomainModel,
+			ModelsContext modelsContext,
+			BootstrapContext bootstrapContext) {
 		this(
 				categorizedDomainModel.getGlobalRegistrations(),
 				bootstrapContext.getMetadataBuildingOptions().getImplicitNamingStrategy(),
 				bootstrapContext.getMetadataBuildingOptions().getPhysicalNamingStrategy(),
 				bootstrapContext.getMetadataBuildingOptions().getSharedCacheMode(),
-				bootstrapContext
+				bootstrapContext,
+				modelsContext
 		);
 	}
 
@@ -46,9 +60,27 @@ public class BindingContextImpl implements BindingContext {
 			PhysicalNamingStrategy physicalNamingStrategy,
 			SharedCacheMode sharedCacheMode,
 			BootstrapContext bootstrapContext) {
+		this(
+				globalRegistrations,
+				implicitNamingStrategy,
+				physicalNamingStrategy,
+				sharedCacheMode,
+				bootstrapContext,
+				bootstrapContext.getModelsContext()
+		);
+	}
+
+	private BindingContextImpl(
+			GlobalRegistrations globalRegistrations,
+			ImplicitNamingStrategy implicitNamingStrategy,
+			PhysicalNamingStrategy physicalNamingStrategy,
+			SharedCacheMode sharedCacheMode,
+			BootstrapContext bootstrapContext,
+			ModelsContext modelsContext) {
 		this.implicitNamingStrategy = implicitNamingStrategy;
 		this.physicalNamingStrategy = physicalNamingStrategy;
 		this.bootstrapContext = bootstrapContext;
+		this.modelsContext = modelsContext;
 		this.globalRegistrations = globalRegistrations;
 		this.sharedCacheMode = sharedCacheMode;
 	}
@@ -58,6 +90,11 @@ public class BindingContextImpl implements BindingContext {
 		return bootstrapContext;
 	}
 
+	@Override
+	public ModelsContext getModelsContext() {
+		return modelsContext;
+	}
+
 	@Override
 	public GlobalRegistrations getGlobalRegistrations() {
 		return globalRegistrations;
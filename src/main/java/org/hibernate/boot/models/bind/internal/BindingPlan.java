@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.models.bind.internal.binders.ManagedTypeBinder;
+import org.hibernate.boot.models.bind.internal.binders.TypeBindingPhase;
+
+/// The type binders of a binding run, compiled once into per-step participant
+/// arrays.
+///
+/// Binders declare the steps they take part in by implementing [TypeBindingPhase]
+/// contracts.  Compiling the plan resolves that once per (binder, step) pair, so a
+/// step's participants run without type checks or casts.  The coordinator runs each
+/// step for all of its participants before moving on to the next.
+///
+/// Steps keep the given order, and within a step participants keep the order of the
+/// compiled binder list, which is hierarchy visitation order (super types first).
+///
+/// @author Steve Ebersole
+public class BindingPlan {
+	/// One type-binding step.
+	///
+	/// @param phaseType The [TypeBindingPhase] contract binders implement to participate
+	/// @param action The phase method to call
+	public record Step<P>(Class<P> phaseType, Consumer<P> action) {
+	}
+
+	/// The participants of one step.
+	public static final class StepPlan<P> {
+		private final Step<P> step;
+		private final Object[] participants;
+
+		private StepPlan(Step<P> step, Object[] participants) {
+			this.step = step;
+			this.participants = participants;
+		}
+
+		public Step<P> getStep() {
+			return step;
+		}
+
+		/// Number of binders participating in the step.
+		public int size() {
+			return participants.length;
+		}
+
+		/// Run the step for the participant at the given index.
+		@SuppressWarnings("unchecked")
+		public void run(int index) {
+			step.action().accept( (P) participants[index] );
+		}
+	}
+
+	/// The type-binding steps, in order.  See [TypeBindingPhase] for what each one does.
+	public static final List<Step<?>> TYPE_BINDING_STEPS = List.of(
+			new Step<>( TypeBindingPhase.Tables.class, TypeBindingPhase.Tables::bindTables ),
+			new Step<>( TypeBindingPhase.SuperType.class, TypeBindingPhase.SuperType::bindSuperType ),
+			new Step<>( TypeBindingPhase.EntityMetadata.class, TypeBindingPhase.EntityMetadata::bindEntityMetadata ),
+			new Step<>( TypeBindingPhase.Identifiers.class, TypeBindingPhase.Identifiers::bindIdentifier ),
+			new Step<>( TypeBindingPhase.AssociationIdentifiers.class, TypeBindingPhase.AssociationIdentifiers::bindAssociationIdentifiers ),
+			new Step<>( TypeBindingPhase.Members.class, TypeBindingPhase.Members::bindMembers ),
+			new Step<>( TypeBindingPhase.CollectionIndexes.class, TypeBindingPhase.CollectionIndexes::bindCollectionIndexes ),
+			new Step<>( TypeBindingPhase.AssociationTargets.class, TypeBindingPhase.AssociationTargets::bindAssociationTargets ),
+			new Step<>( TypeBindingPhase.DerivedIdentifiers.class, TypeBindingPhase.DerivedIdentifiers::bindDerivedIdentifiers ),
+			new Step<>( TypeBindingPhase.AggregateComponents.class, TypeBindingPhase.AggregateComponents::bindAggregateComponents ),
+			new Step<>( TypeBindingPhase.TableKeys.class, TypeBindingPhase.TableKeys::bindTableKeys ),
+			new Step<>( TypeBindingPhase.InverseAssociations.class, TypeBindingPhase.InverseAssociations::bindInverseAssociations ),
+			new Step<>( TypeBindingPhase.ForeignKeys.class, TypeBindingPhase.ForeignKeys::bindForeignKeys )
+	);
+
+	private final List<StepPlan<?>> stepPlans;
+
+	private BindingPlan(List<StepPlan<?>> stepPlans) {
+		this.stepPlans = stepPlans;
+	}
+
+	/// Compile the plan for the given binders and the [standard steps][#TYPE_BINDING_STEPS].
+	///
+	/// @param binders All type binders, in hierarchy visitation order (super types first)
+	public static BindingPlan compile(List<ManagedTypeBinder> binders) {
+		return compile( binders, TYPE_BINDING_STEPS );
+	}
+
+	/// Compile the plan for the given binders and steps.
+	///
+	/// @param binders All type binders, in hierarchy visitation order (super types first)
+	/// @param steps The ordered binding steps
+	public static BindingPlan compile(List<ManagedTypeBinder> binders, List<Step<?>> steps) {
+		final List<StepPlan<?>> stepPlans = new ArrayList<>( steps.size() );
+		for ( Step<?> step : steps ) {
+			stepPlans.add( compileStep( step, binders ) );
+		}
+		return new BindingPlan( Collections.unmodifiableList( stepPlans ) );
+	}
+
+	private static <P> StepPlan<P> compileStep(Step<P> step, List<ManagedTypeBinder> binders) {
+		final List<Object> participants = new ArrayList<>();
+		for ( ManagedTypeBinder binder : binders ) {
+			if ( step.phaseType().isInstance( binder ) ) {
+				participants.add( binder );
+			}
+		}
+		return new StepPlan<>( step, participants.toArray() );
+	}
+
+	/// The per-step participants, in step order.
+	public List<StepPlan<?>> getStepPlans() {
+		return stepPlans;
+	}
+}
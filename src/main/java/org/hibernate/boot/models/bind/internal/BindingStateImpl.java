@@ -61,12 +61,16 @@ import org.hibernate.type.spi.TypeConfiguration;
 /// consumed by a named phase instead of being an opaque "try again later"
 /// callback queue.
 ///
+/// None of this is needed once binding is over; [#release()] drops it so that
+/// binders, sources and categorized metadata do not outlive the boot.
+///
 /// @author Steve Ebersole
 public class BindingStateImpl implements BindingState {
 	private final MetadataBuildingContext metadataBuildingContext;
 
 	private final Database database;
 	private final JdbcServices jdbcServices;
+	private final NamePool namePool = new NamePool();
 
 	private final Map<String, TableReference> tableMap = new HashMap<>();
 	private final Map<TableOwner, TableReference> tableByOwnerMap = new HashMap<>();
@@ -108,6 +112,34 @@ public class BindingStateImpl implements BindingState {
 		return jdbcServices;
 	}
 
+	@Override
+	public NamePool getNamePool() {
+		return namePool;
+	}
+
+	@Override
+	public void release() {
+		namePool.release();
+
+		tableMap.clear();
+		tableByOwnerMap.clear();
+		secondaryTableByBinding.clear();
+		associationTableBindings.clear();
+		collectionTableBindings.clear();
+		propertyMapKeyBindings.clear();
+		associationIdentifierBindings.clear();
+		associationTargetBindings.clear();
+		derivedIdentifierBindings.clear();
+		aggregateComponentBindings.clear();
+		inversePluralAssociationBindings.clear();
+		inverseToOneAssociationBindings.clear();
+		foreignKeyBindings.clear();
+		tableForeignKeyBindings.clear();
+		typeBinders.clear();
+		typeBindersBySuper.clear();
+		identifierBindings.clear();
+	}
+
 	@Override
 	public void registerTypeBinder(ManagedTypeMetadata type, ManagedTypeBinder binder) {
 		typeBinders.put( type.getClassDetails(), binder );
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.boot.model.naming.Identifier;
+
+/// Boot-scoped intern pool for table, column, schema and catalog names.
+///
+/// Large models repeat the same names across many tables (`id`, `version`,
+/// `tenant_id`, ...).  Binders pass names through the pool so equal names share a
+/// single `String` or [Identifier] instance in the mapping model.
+///
+/// Identifiers are pooled by text and quoting rather than [Identifier] equality,
+/// which ignores case for unquoted names.
+///
+/// The pool only matters while binding.  [#release()] drops it; afterwards names
+/// are returned unchanged, while the instances already handed out stay shared.
+///
+/// @author Steve Ebersole
+public class NamePool {
+	private record IdentifierKey(String text, boolean quoted) {
+	}
+
+	private Map<String, String> names = new HashMap<>();
+	private Map<IdentifierKey, Identifier> identifiers = new HashMap<>();
+
+	/// The pooled instance equal to the given name.
+	public String intern(String name) {
+		final Map<String, String> names = this.names;
+		if ( name == null || names == null ) {
+			return name;
+		}
+		final String existing = names.putIfAbsent( name, name );
+		return existing == null ? name : existing;
+	}
+
+	/// The pooled identifier with the same text and quoting as the given one.
+	public Identifier intern(Identifier identifier) {
+		final Map<IdentifierKey, Identifier> identifiers = this.identifiers;
+		if ( identifier == null || identifiers == null ) {
+			return identifier;
+		}
+		final Identifier existing = identifiers.putIfAbsent(
+				new IdentifierKey( identifier.getText(), identifier.isQuoted() ),
+				identifier
+		);
+		return existing == null ? identifier : existing;
+	}
+
+	/// Number of distinct pooled names and identifiers.
+	public int size() {
+		final Map<String, String> names = this.names;
+		final Map<IdentifierKey, Identifier> identifiers = this.identifiers;
+		return ( names == null ? 0 : names.size() ) + ( identifiers == null ? 0 : identifiers.size() );
+	}
+
+	/// Drop the pool once binding has completed.
+	public void release() {
+		names = null;
+		identifiers = null;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
+import org.hibernate.boot.models.bind.spi.BindingOptions;
+import org.hibernate.boot.models.bind.spi.QuotedIdentifierTarget;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+
+/// Memoizing front for the naming work of table binding.
+///
+/// Converting source names to identifiers with global quoting and applying the
+/// physical naming strategy are functions of their inputs, and the same names
+/// (schemas, catalogs, shared tables) come up again and again.  The cache resolves
+/// each distinct input once per binding run, and the results are interned through
+/// the binding run's [NamePool].
+///
+/// Physical names are keyed by the logical name's text and quoting rather than by
+/// [Identifier] equality, which ignores case for unquoted names while naming
+/// strategies need not.  Implicit table names are not cached: each entity, and
+/// each collection or join table role, asks for its implicit name only once.
+///
+/// Not thread-safe; one instance belongs to one binding run.
+///
+/// @author Steve Ebersole
+public class NamingCache {
+	private record NameKey(String text, boolean quoted) {
+		private static NameKey from(Identifier identifier) {
+			return new NameKey( identifier.getText(), identifier.isQuoted() );
+		}
+	}
+
+	private final BindingOptions bindingOptions;
+	private final JdbcEnvironment jdbcEnvironment;
+	private final PhysicalNamingStrategy physicalNamingStrategy;
+	private final NamePool namePool;
+
+	private final Map<QuotedIdentifierTarget, Map<String, Identifier>> identifiers = new EnumMap<>( QuotedIdentifierTarget.class );
+	private final Map<NameKey, Identifier> physicalTableNames = new HashMap<>();
+	private final Map<NameKey, Identifier> physicalSchemaNames = new HashMap<>();
+	private final Map<NameKey, Identifier> physicalCatalogNames = new HashMap<>();
+
+	public NamingCache(
+			BindingOptions bindingOptions,
+			JdbcEnvironment jdbcEnvironment,
+			PhysicalNamingStrategy physicalNamingStrategy,
+			NamePool namePool) {
+		this.bindingOptions = bindingOptions;
+		this.jdbcEnvironment = jdbcEnvironment;
+		this.physicalNamingStrategy = physicalNamingStrategy;
+		this.namePool = namePool;
+	}
+
+	/// Cached form of [BindingHelper#toIdentifier].
+	public Identifier toIdentifier(String name, QuotedIdentifierTarget target) {
+		if ( name == null ) {
+			return BindingHelper.toIdentifier( null, target, bindingOptions, jdbcEnvironment );
+		}
+		return identifiers
+				.computeIfAbsent( target, (key) -> new HashMap<>() )
+				.computeIfAbsent( name, (key) -> namePool.intern( BindingHelper.toIdentifier( key, target, bindingOptions, jdbcEnvironment ) ) );
+	}
+
+	public Identifier toPhysicalTableName(Identifier logicalName) {
+		return toPhysical( logicalName, physicalTableNames, physicalNamingStrategy::toPhysicalTableName );
+	}
+
+	public Identifier toPhysicalSchemaName(Identifier logicalName) {
+		return toPhysical( logicalName, physicalSchemaNames, physicalNamingStrategy::toPhysicalSchemaName );
+	}
+
+	public Identifier toPhysicalCatalogName(Identifier logicalName) {
+		return toPhysical( logicalName, physicalCatalogNames, physicalNamingStrategy::toPhysicalCatalogName );
+	}
+
+	private Identifier toPhysical(
+			Identifier logicalName,
+			Map<NameKey, Identifier> cache,
+			BiFunction<Identifier, JdbcEnvironment, Identifier> strategy) {
+		if ( logicalName == null ) {
+			return strategy.apply( null, jdbcEnvironment );
+		}
+		return cache.computeIfAbsent(
+				NameKey.from( logicalName ),
+				(key) -> namePool.intern( strategy.apply( logicalName, jdbcEnvironment ) )
+		);
+	}
+}
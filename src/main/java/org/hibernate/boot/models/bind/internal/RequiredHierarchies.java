@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+/// The entity hierarchies needed to bind a set of requested classes.
+///
+/// Starting from the hierarchies which own the requested classes, the association
+/// targets of every included hierarchy are followed transitively (see
+/// [AssociationTargets]).  The result is closed under associations, so binding just
+/// these hierarchies never leaves an association without its target.
+///
+/// @author Steve Ebersole
+public class RequiredHierarchies {
+	private final Set<EntityHierarchy> hierarchies;
+
+	private RequiredHierarchies(Set<EntityHierarchy> hierarchies) {
+		this.hierarchies = hierarchies;
+	}
+
+	/// Determine the hierarchies required to bind the named classes.
+	///
+	/// @param categorizedDomainModel The categorized model
+	/// @param classDetailsRegistry Used to resolve explicit association `targetEntity` classes
+	/// @param requestedClassNames Names of entity or mapped-superclass classes to bind
+	///
+	/// @throws ModelsException If a requested class is not a type of any hierarchy
+	public static RequiredHierarchies resolve(
+			CategorizedDomainModel categorizedDomainModel,
+			ClassDetailsRegistry classDetailsRegistry,
+			Collection<String> requestedClassNames) {
+		final Set<EntityHierarchy> allHierarchies = categorizedDomainModel.getEntityHierarchies();
+
+		final Map<String, List<EntityHierarchy>> hierarchiesByClassName = new HashMap<>();
+		final Map<ClassDetails, EntityHierarchy> hierarchyByClass = new HashMap<>();
+		allHierarchies.forEach( (hierarchy) -> hierarchy.forEachType( (type, superType, entityHierarchy, relation) -> {
+			final ClassDetails classDetails = type.getClassDetails();
+			hierarchiesByClassName.computeIfAbsent( classDetails.getClassName(), (name) -> new ArrayList<>() ).add( hierarchy );
+			hierarchyByClass.putIfAbsent( classDetails, hierarchy );
+		} ) );
+
+		final Set<EntityHierarchy> required = new HashSet<>();
+		final Deque<EntityHierarchy> pending = new ArrayDeque<>();
+		for ( String requestedClassName : requestedClassNames ) {
+			final List<EntityHierarchy> owners = hierarchiesByClassName.get( requestedClassName );
+			if ( owners == null ) {
+				throw new ModelsException( "Class requested for binding is not part of any entity hierarchy - " + requestedClassName );
+			}
+			for ( EntityHierarchy owner : owners ) {
+				if ( required.add( owner ) ) {
+					pending.add( owner );
+				}
+			}
+		}
+
+		while ( !pending.isEmpty() ) {
+			final EntityHierarchy hierarchy = pending.poll();
+			hierarchy.forEachType( (type, superType, entityHierarchy, relation) -> {
+				AssociationTargets.forEachTarget( type, classDetailsRegistry, (targetClass) -> {
+					final EntityHierarchy targetHierarchy = hierarchyByClass.get( targetClass );
+					if ( targetHierarchy != null && required.add( targetHierarchy ) ) {
+						pending.add( targetHierarchy );
+					}
+				} );
+			} );
+		}
+
+		final Set<EntityHierarchy> ordered = new LinkedHashSet<>();
+		for ( EntityHierarchy hierarchy : allHierarchies ) {
+			if ( required.contains( hierarchy ) ) {
+				ordered.add( hierarchy );
+			}
+		}
+		return new RequiredHierarchies( Collections.unmodifiableSet( ordered ) );
+	}
+
+	/// The required hierarchies, in model iteration order.
+	public Set<EntityHierarchy> getHierarchies() {
+		return hierarchies;
+	}
+}
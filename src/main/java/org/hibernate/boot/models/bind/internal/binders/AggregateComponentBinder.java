@@ -59,6 +59,7 @@ class AggregateComponentBinder {
 		component.setStructColumnNames( determineStructAttributeNames( aggregateMember, componentClassDetails ) );
 
 		final Column column = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( aggregateMember.getDirectAnnotationUsage( jakarta.persistence.Column.class ) ),
 				() -> aggregateMember.resolveAttributeName()
 		);
@@ -104,6 +104,7 @@ class AnyValueBinder {
 		discriminator.setTable( table );
 
 		final Column column = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( source.discriminatorColumn() ),
 				() -> propertyName + "_type",
 				false,
@@ -132,6 +133,7 @@ class AnyValueBinder {
 
 		if ( source.keyColumns().isEmpty() ) {
 			final Column column = ColumnBinder.bindColumn(
+					bindingState,
 					null,
 					() -> propertyName + "_id",
 					false,
@@ -144,6 +146,7 @@ class AnyValueBinder {
 			for ( int i = 0; i < source.keyColumns().size(); i++ ) {
 				final int index = i;
 				final Column column = ColumnBinder.bindColumn(
+						bindingState,
 						ColumnSource.from( source.keyColumns().get( index ) ),
 						() -> index == 0 ? propertyName + "_id" : propertyName + "_id" + ( index + 1 ),
 						false,
@@ -178,9 +181,7 @@ class AnyValueBinder {
 		final Map<DiscriminatorValue, Class<?>> result = new HashMap<>();
 		for ( org.hibernate.annotations.AnyDiscriminatorValue discriminatorValue : source.discriminatorValues() ) {
 			final Class<?> entityClass = discriminatorValue.entity();
-			if ( bindingState.getTypeBinder( bindingContext.getBootstrapContext()
-					.getModelsContext()
-					.getClassDetailsRegistry()
+			if ( bindingState.getTypeBinder( bindingContext.getClassDetailsRegistry()
 					.resolveClassDetails( entityClass.getName() ) ) == null ) {
 				throw new MappingException(
 						"@Any discriminator value referenced an unknown entity `"
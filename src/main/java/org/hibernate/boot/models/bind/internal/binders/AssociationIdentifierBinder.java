@@ -72,6 +72,7 @@ class AssociationIdentifierBinder {
 			final JoinColumn joinColumn = orderedJoinColumns.isEmpty() ? null : orderedJoinColumns.get( i );
 			final String targetColumnName = targetIdentifierBinding.columns().get( i ).getName();
 			final Column column = ColumnBinder.bindColumn(
+					bindingState,
 					org.hibernate.boot.models.bind.internal.sources.ColumnSource.from( joinColumn ),
 					() -> associationIdentifierBinding.property().getName() + "_" + targetColumnName,
 					true,
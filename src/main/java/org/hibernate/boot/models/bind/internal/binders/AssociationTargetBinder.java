@@ -9,8 +9,6 @@ import java.util.List;
 
 import org.hibernate.MappingException;
 import org.hibernate.internal.util.StringHelper;
-import org.hibernate.mapping.BasicValue;
-import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Property;
 
 /// Resolves association targets that do not point at the target primary key.
@@ -49,11 +47,10 @@ class AssociationTargetBinder {
 
 	private Property resolveReferencedProperty(AssociationTargetBinding associationTargetBinding) {
 		final List<String> referencedColumnNames = referencedColumnNames( associationTargetBinding );
-		for ( Property property : associationTargetBinding.targetTypeBinder().getTypeBinding().getProperties() ) {
-			if ( property.getValue() instanceof BasicValue basicValue
-					&& columnNames( basicValue.getColumns() ).equals( referencedColumnNames ) ) {
-				return property;
-			}
+		final Property property = associationTargetBinding.targetTypeBinder()
+				.findBasicPropertyByColumnNames( referencedColumnNames );
+		if ( property != null ) {
+			return property;
 		}
 		throw new MappingException(
 				"Could not resolve non-primary-key association target columns "
@@ -74,12 +71,4 @@ class AssociationTargetBinder {
 		}
 		return result;
 	}
-
-	private List<String> columnNames(List<Column> columns) {
-		final List<String> result = new ArrayList<>( columns.size() );
-		for ( Column column : columns ) {
-			result.add( column.getName() );
-		}
-		return result;
-	}
 }
@@ -294,7 +294,7 @@ public class AttributeBinder {
 			@SuppressWarnings("unused") BindingContext bindingContext) {
 		// todo : implicit column
 		final var columnAnn = member.getDirectAnnotationUsage( Column.class );
-		final var column = ColumnBinder.bindColumn( ColumnSource.from( columnAnn ), property::getName );
+		final var column = ColumnBinder.bindColumn( bindingState, ColumnSource.from( columnAnn ), property::getName );
 
 		var tableName = columnAnn == null ? "" : columnAnn.table();
 		if ( "".equals( tableName ) || tableName == null ) {
@@ -5,6 +5,7 @@
 package org.hibernate.boot.models.bind.internal.binders;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 import org.hibernate.annotations.CollectionIdJavaType;
 import org.hibernate.annotations.CollectionIdJdbcType;
@@ -33,6 +34,7 @@ import org.hibernate.boot.models.bind.spi.BindingContext;
 import org.hibernate.boot.models.bind.spi.BindingOptions;
 import org.hibernate.boot.models.bind.spi.BindingState;
 import org.hibernate.boot.models.bind.spi.TableReference;
+import org.hibernate.boot.models.categorize.spi.ConversionRegistration;
 import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Property;
 import org.hibernate.models.ModelsException;
@@ -42,11 +44,13 @@ import org.hibernate.type.descriptor.java.BasicJavaType;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.MapKeyEnumerated;
 import jakarta.persistence.MapKeyTemporal;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 
 import static jakarta.persistence.EnumType.ORDINAL;
 import static org.hibernate.annotations.TimeZoneStorageType.AUTO;
@@ -94,7 +98,11 @@ public class BasicValueBinder {
 			BindingState bindingState,
 			BindingContext bindingContext) {
 		final Convert conversion = source.conversion();
-		if ( conversion == null || conversion.disableConversion() ) {
+		if ( conversion == null ) {
+			bindAutoAppliedConversion( source, basicValue, bindingContext );
+			return;
+		}
+		if ( conversion.disableConversion() ) {
 			return;
 		}
 
@@ -107,6 +115,50 @@ public class BasicValueBinder {
 		);
 	}
 
+	/// Apply the auto-applied converter matching the value's type, if any.  The candidates
+	/// come from a per-type index over the global registrations; see
+	/// [org.hibernate.boot.models.categorize.spi.GlobalRegistrations#getAutoAppliedConverterRegistrations].
+	///
+	/// Following JPA, auto-apply does not cover identifiers, versions and values mapped
+	/// as enumerated or temporal.
+	private static void bindAutoAppliedConversion(
+			BasicValueSource source,
+			BasicValue basicValue,
+			BindingContext bindingContext) {
+		if ( source.type() == null || !isAutoApplyCandidate( source ) ) {
+			return;
+		}
+
+		final List<ConversionRegistration> candidates = bindingContext.getGlobalRegistrations()
+				.getAutoAppliedConverterRegistrations( source.type().determineRawClass() );
+		if ( candidates.isEmpty() ) {
+			return;
+		}
+		if ( candidates.size() > 1 ) {
+			throw new ModelsException(
+					"Multiple auto-apply converters matched value [" + source.kind() + "] of attribute `"
+							+ source.member().getDeclaringType().getName() + "#" + source.member().getName()
+							+ "` : " + candidates.stream().map( (candidate) -> candidate.converterType().getName() ).toList()
+			);
+		}
+		basicValue.setJpaAttributeConverterDescriptor( candidates.get( 0 ).makeConverterDescriptor() );
+	}
+
+	private static boolean isAutoApplyCandidate(BasicValueSource source) {
+		final MemberDetails member = source.member();
+		return switch ( source.kind() ) {
+			case ATTRIBUTE, EMBEDDABLE_MEMBER -> !member.hasDirectAnnotationUsage( Id.class )
+					&& !member.hasDirectAnnotationUsage( Version.class )
+					&& !member.hasDirectAnnotationUsage( Enumerated.class )
+					&& !member.hasDirectAnnotationUsage( Temporal.class );
+			case COLLECTION_ELEMENT -> !member.hasDirectAnnotationUsage( Enumerated.class )
+					&& !member.hasDirectAnnotationUsage( Temporal.class );
+			case MAP_KEY -> !member.hasDirectAnnotationUsage( MapKeyEnumerated.class )
+					&& !member.hasDirectAnnotationUsage( MapKeyTemporal.class );
+			default -> false;
+		};
+	}
+
 	private static void validateConversionAttributeName(BasicValueSource source, Convert conversion) {
 		final String attributeName = conversion.attributeName();
 		if ( attributeName == null || attributeName.isEmpty() ) {
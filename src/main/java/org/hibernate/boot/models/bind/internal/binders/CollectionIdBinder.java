@@ -48,6 +48,7 @@ class CollectionIdBinder {
 		);
 
 		final org.hibernate.mapping.Column idColumn = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( collectionId.column() ),
 				() -> IdentifierCollection.DEFAULT_IDENTIFIER_COLUMN_NAME,
 				false,
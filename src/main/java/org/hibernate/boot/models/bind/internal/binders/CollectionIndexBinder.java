@@ -5,7 +5,9 @@
 package org.hibernate.boot.models.bind.internal.binders;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.MappingException;
 import org.hibernate.boot.models.bind.internal.sources.BasicValueSource;
@@ -59,6 +61,7 @@ class CollectionIndexBinder {
 		);
 
 		final org.hibernate.mapping.Column indexColumn = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( source.orderColumn() ),
 				() -> IndexedCollection.DEFAULT_INDEX_COLUMN_NAME
 		);
@@ -222,6 +225,7 @@ class CollectionIndexBinder {
 		);
 
 		final org.hibernate.mapping.Column indexColumn = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( source.mapKeyColumn() ),
 				() -> Collection.DEFAULT_KEY_COLUMN_NAME,
 				false,
@@ -285,6 +289,7 @@ class CollectionIndexBinder {
 					? identifierBinding.columns().get( i ).getName()
 					: mapKeyJoinColumn.referencedColumnName();
 			final Column column = ColumnBinder.bindColumn(
+					bindingState,
 					ColumnSource.from( mapKeyJoinColumn ),
 					() -> Collection.DEFAULT_KEY_COLUMN_NAME + "_" + targetColumnName,
 					false,
@@ -322,26 +327,18 @@ class CollectionIndexBinder {
 		if ( joinColumns.size() != targetColumns.size() ) {
 			return false;
 		}
-		final ArrayList<Column> unmatchedTargetColumns = new ArrayList<>( targetColumns );
+		final Map<String, Column> unmatchedTargetColumns = new HashMap<>();
+		for ( Column targetColumn : targetColumns ) {
+			unmatchedTargetColumns.putIfAbsent( targetColumn.getName(), targetColumn );
+		}
 		for ( MapKeyJoinColumn joinColumn : joinColumns ) {
-			final Column targetColumn = findTargetColumn( unmatchedTargetColumns, joinColumn.referencedColumnName() );
-			if ( targetColumn == null ) {
+			if ( unmatchedTargetColumns.remove( joinColumn.referencedColumnName() ) == null ) {
 				return false;
 			}
-			unmatchedTargetColumns.remove( targetColumn );
 		}
 		return unmatchedTargetColumns.isEmpty();
 	}
 
-	private static Column findTargetColumn(List<Column> targetColumns, String columnName) {
-		for ( Column targetColumn : targetColumns ) {
-			if ( targetColumn.getName().equals( columnName ) ) {
-				return targetColumn;
-			}
-		}
-		return null;
-	}
-
 	private static List<String> referencedColumnNames(List<MapKeyJoinColumn> joinColumns) {
 		final ArrayList<String> result = new ArrayList<>( joinColumns.size() );
 		for ( MapKeyJoinColumn joinColumn : joinColumns ) {
@@ -359,28 +356,20 @@ class CollectionIndexBinder {
 		}
 
 		final ArrayList<MapKeyJoinColumn> orderedJoinColumns = new ArrayList<>( targetColumns.size() );
-		final ArrayList<MapKeyJoinColumn> unmatchedJoinColumns = new ArrayList<>( joinColumns );
+		final Map<String, MapKeyJoinColumn> joinColumnsByReferencedName = new HashMap<>();
+		for ( MapKeyJoinColumn joinColumn : joinColumns ) {
+			joinColumnsByReferencedName.putIfAbsent( joinColumn.referencedColumnName(), joinColumn );
+		}
 		for ( Column targetColumn : targetColumns ) {
-			final MapKeyJoinColumn joinColumn = findMapKeyJoinColumn( targetColumn, unmatchedJoinColumns, role );
+			final MapKeyJoinColumn joinColumn = joinColumnsByReferencedName.remove( targetColumn.getName() );
+			if ( joinColumn == null ) {
+				throw new ModelsException(
+						"Unable to match map-key join column referencedColumnName to target identifier column `"
+								+ targetColumn.getName() + "` - " + role
+				);
+			}
 			orderedJoinColumns.add( joinColumn );
-			unmatchedJoinColumns.remove( joinColumn );
 		}
 		return orderedJoinColumns;
 	}
-
-	private static MapKeyJoinColumn findMapKeyJoinColumn(
-			Column targetColumn,
-			List<MapKeyJoinColumn> joinColumns,
-			String role) {
-		for ( MapKeyJoinColumn joinColumn : joinColumns ) {
-			if ( targetColumn.getName().equals( joinColumn.referencedColumnName() ) ) {
-				return joinColumn;
-			}
-		}
-
-		throw new ModelsException(
-				"Unable to match map-key join column referencedColumnName to target identifier column `"
-						+ targetColumn.getName() + "` - " + role
-		);
-	}
 }
@@ -33,9 +33,11 @@ import static org.hibernate.internal.util.NullnessHelper.nullif;
 /// @author Steve Ebersole
 public class ColumnBinder {
 	public static Column bindColumn(
+			BindingState bindingState,
 			ColumnSource columnSource,
 			Supplier<String> defaultNameSupplier) {
 		return bindColumn(
+				bindingState,
 				columnSource,
 				defaultNameSupplier,
 				false,
@@ -47,11 +49,13 @@ public class ColumnBinder {
 	}
 
 	public static Column bindColumn(
+			BindingState bindingState,
 			ColumnSource columnSource,
 			Supplier<String> defaultNameSupplier,
 			boolean uniqueByDefault,
 			boolean nullableByDefault) {
 		return bindColumn(
+				bindingState,
 				columnSource,
 				defaultNameSupplier,
 				uniqueByDefault,
@@ -63,6 +67,7 @@ public class ColumnBinder {
 	}
 
 	public static Column bindColumn(
+			BindingState bindingState,
 			ColumnSource columnSource,
 			Supplier<String> defaultNameSupplier,
 			boolean uniqueByDefault,
@@ -71,7 +76,7 @@ public class ColumnBinder {
 			int precisionByDefault,
 			int scaleByDefault) {
 		final Column result = new Column();
-		result.setName( columnName( columnSource, defaultNameSupplier ) );
+		result.setName( columnName( bindingState, columnSource, defaultNameSupplier ) );
 
 		result.setUnique( columnSource == null ? uniqueByDefault : columnSource.unique( uniqueByDefault ) );
 		result.setNullable( columnSource == null ? nullableByDefault : columnSource.nullable( nullableByDefault ) );
@@ -84,13 +89,13 @@ public class ColumnBinder {
 
 
 	public static String columnName(
+			BindingState bindingState,
 			ColumnSource columnSource,
 			Supplier<String> defaultNameSupplier) {
-		if ( columnSource == null ) {
-			return defaultNameSupplier.get();
-		}
-
-		return nullif( columnSource.nonEmptyName(), defaultNameSupplier );
+		final String name = columnSource == null
+				? defaultNameSupplier.get()
+				: nullif( columnSource.nonEmptyName(), defaultNameSupplier );
+		return bindingState.getNamePool().intern( name );
 	}
 
 	private ColumnBinder() {
@@ -116,7 +121,7 @@ public class ColumnBinder {
 			value.addColumn( column, true, false );
 			discriminatorType = columnAnn == null ? DiscriminatorType.STRING : columnAnn.discriminatorType();
 
-			column.setName( columnName( columnSource, () -> "dtype" ) );
+			column.setName( columnName( bindingState, columnSource, () -> "dtype" ) );
 			column.setLength( columnSource == null ? 31 : columnSource.length( 31 ) );
 			column.setSqlType( BindingHelper.applyGlobalQuoting(
 					columnSource == null ? "" : columnSource.columnDefinition(),
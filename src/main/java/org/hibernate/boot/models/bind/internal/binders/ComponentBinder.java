@@ -382,6 +382,7 @@ class ComponentBinder {
 			boolean nullableByDefault,
 			boolean updatable) {
 		final Column column = ColumnBinder.bindColumn(
+				state,
 				columnSource,
 				implicitName,
 				uniqueByDefault,
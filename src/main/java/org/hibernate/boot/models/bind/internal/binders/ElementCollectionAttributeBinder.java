@@ -225,6 +225,7 @@ class ElementCollectionAttributeBinder {
 
 		final jakarta.persistence.Column column = member.getDirectAnnotationUsage( jakarta.persistence.Column.class );
 		final org.hibernate.mapping.Column elementColumn = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( column ),
 				() -> Collection.DEFAULT_ELEMENT_COLUMN_NAME
 		);
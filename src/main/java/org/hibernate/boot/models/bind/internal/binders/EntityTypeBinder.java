@@ -54,6 +54,7 @@ import org.hibernate.mapping.Join;
 import org.hibernate.mapping.JoinedSubclass;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.mapping.SingleTableSubclass;
 import org.hibernate.mapping.Subclass;
@@ -67,6 +68,7 @@ import org.hibernate.models.spi.MethodDetails;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -136,6 +138,7 @@ public class EntityTypeBinder extends IdentifiableTypeBinder
 
 	private final ModelBinders modelBinders;
 	private IdentifierBinding identifierBinding;
+	private Map<List<String>, Property> basicPropertiesByColumnNames;
 
 	public EntityTypeBinder(
 			EntityTypeMetadata type,
@@ -513,6 +516,30 @@ public class EntityTypeBinder extends IdentifiableTypeBinder
 		return getManagedType();
 	}
 
+	/// The basic property of this type mapped to exactly the given column names, in
+	/// order, or {@code null} if there is none.  When several properties match, the first
+	/// in property order wins.
+	///
+	/// The column-name index is built on first use.  Lookups happen no earlier than
+	/// the association-targets phase, when the members of every type are bound.
+	Property findBasicPropertyByColumnNames(List<String> columnNames) {
+		if ( basicPropertiesByColumnNames == null ) {
+			final Map<List<String>, Property> index = new HashMap<>();
+			for ( Property property : binding.getProperties() ) {
+				if ( property.getValue() instanceof BasicValue basicValue ) {
+					final List<Column> columns = basicValue.getColumns();
+					final List<String> names = new ArrayList<>( columns.size() );
+					for ( Column column : columns ) {
+						names.add( column.getName() );
+					}
+					index.putIfAbsent( names, property );
+				}
+			}
+			basicPropertiesByColumnNames = index;
+		}
+		return basicPropertiesByColumnNames.get( columnNames );
+	}
+
 	private PersistentClass createBinding() {
 		if ( getHierarchyRelation() == EntityHierarchy.HierarchyRelation.SUB ) {
 			return createSubclass();
@@ -1008,7 +1035,7 @@ public class EntityTypeBinder extends IdentifiableTypeBinder
 	private void processFilters(ClassDetails classDetails, BindingState state, BindingContext context) {
 		final Filter[] filters = classDetails.getRepeatedAnnotationUsages(
 				Filter.class,
-				context.getBootstrapContext().getModelsContext()
+				context.getModelsContext()
 		);
 		if ( filters.length == 0 ) {
 			return;
@@ -99,8 +99,8 @@ public abstract class IdentifiableTypeBinder extends ManagedTypeBinder {
 			if ( managedType.getHierarchy().getIdMapping().contains( attributeMetadata )
 					|| attributeMetadata.getMember().hasDirectAnnotationUsage( Id.class )
 					|| attributeMetadata.getMember().hasDirectAnnotationUsage( EmbeddedId.class )
-					|| managedType.getHierarchy().getVersionAttribute() == attributeMetadata
-					|| managedType.getHierarchy().getTenantIdAttribute() == attributeMetadata ) {
+					|| attributeMetadata.equals( managedType.getHierarchy().getVersionAttribute() )
+					|| attributeMetadata.equals( managedType.getHierarchy().getTenantIdAttribute() ) ) {
 				return;
 			}
 
@@ -179,7 +179,7 @@ public class IdentifierBinder {
 	private boolean hasNamedTableGenerator(MemberDetails idAttributeMember, String generatorName) {
 		final TableGenerator[] tableGenerators = idAttributeMember.getDeclaringType().getRepeatedAnnotationUsages(
 				TableGenerator.class,
-				context.getBootstrapContext().getModelsContext()
+				context.getModelsContext()
 		);
 		for ( TableGenerator tableGenerator : tableGenerators ) {
 			if ( tableGenerator.name().equals( generatorName ) ) {
@@ -192,7 +192,7 @@ public class IdentifierBinder {
 	private boolean hasNamedSequenceGenerator(MemberDetails idAttributeMember, String generatorName) {
 		final SequenceGenerator[] sequenceGenerators = idAttributeMember.getDeclaringType().getRepeatedAnnotationUsages(
 				SequenceGenerator.class,
-				context.getBootstrapContext().getModelsContext()
+				context.getModelsContext()
 		);
 		for ( SequenceGenerator sequenceGenerator : sequenceGenerators ) {
 			if ( sequenceGenerator.name().equals( generatorName ) ) {
@@ -438,6 +438,7 @@ public class IdentifierBinder {
 			Table table) {
 		final Column columnAnn = member.getDirectAnnotationUsage( Column.class );
 		final org.hibernate.mapping.Column column = ColumnBinder.bindColumn(
+				state,
 				ColumnSource.from( columnAnn ),
 				implicitName,
 				true,
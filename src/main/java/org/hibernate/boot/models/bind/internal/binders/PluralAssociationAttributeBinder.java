@@ -388,6 +388,7 @@ class PluralAssociationAttributeBinder {
 					? targetColumns.get( i ).getName()
 					: joinColumnAnn.referencedColumnName();
 			final org.hibernate.mapping.Column column = ColumnBinder.bindColumn(
+					bindingState,
 					org.hibernate.boot.models.bind.internal.sources.ColumnSource.from( joinColumnAnn ),
 					() -> propertyName + "_" + targetColumnName,
 					uniqueByDefault,
@@ -17,11 +17,10 @@ import org.hibernate.boot.model.naming.ImplicitCollectionTableNameSource;
 import org.hibernate.boot.model.naming.ImplicitEntityNameSource;
 import org.hibernate.boot.model.naming.ImplicitJoinTableNameSource;
 import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
-import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
 import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.boot.models.AnnotationPlacementException;
-import org.hibernate.boot.models.bind.internal.BindingHelper;
 import org.hibernate.boot.models.bind.internal.InLineView;
+import org.hibernate.boot.models.bind.internal.NamingCache;
 import org.hibernate.boot.models.bind.internal.PhysicalTable;
 import org.hibernate.boot.models.bind.internal.sources.ForeignKeySource;
 import org.hibernate.boot.models.bind.internal.sources.TableSource;
@@ -68,9 +67,7 @@ public class TableBinder {
 	private final BindingContext bindingContext;
 
 	private final ImplicitNamingStrategy implicitNamingStrategy;
-	private final PhysicalNamingStrategy physicalNamingStrategy;
-
-	private final JdbcEnvironment jdbcEnvironment;
+	private final NamingCache namingCache;
 
 	public TableBinder(
 			BindingState bindingState,
@@ -86,12 +83,15 @@ public class TableBinder {
 				.getBootstrapContext()
 				.getMetadataBuildingOptions()
 				.getImplicitNamingStrategy();
-		this.physicalNamingStrategy = bindingContext
-				.getBootstrapContext()
-				.getMetadataBuildingOptions()
-				.getPhysicalNamingStrategy();
-
-		this.jdbcEnvironment = bindingContext.getServiceRegistry().getService( JdbcEnvironment.class );
+		this.namingCache = new NamingCache(
+				bindingOptions,
+				bindingContext.getServiceRegistry().getService( JdbcEnvironment.class ),
+				bindingContext
+						.getBootstrapContext()
+						.getMetadataBuildingOptions()
+						.getPhysicalNamingStrategy(),
+				bindingState.getNamePool()
+		);
 	}
 
 	public TableReference bindPrimaryTable(EntityTypeMetadata type, EntityHierarchy.HierarchyRelation hierarchyRelation) {
@@ -180,9 +180,9 @@ public class TableBinder {
 		);
 
 		final DenormalizedTable binding = (DenormalizedTable) bindingState.getMetadataBuildingContext().getMetadataCollector().addDenormalizedTable(
-				logicalSchemaName == null ? null : logicalSchemaName.getCanonicalName(),
-				logicalCatalogName == null  ? null : logicalCatalogName.getCanonicalName(),
-				logicalName.getCanonicalName(),
+				toCanonicalName( logicalSchemaName ),
+				toCanonicalName( logicalCatalogName ),
+				toCanonicalName( logicalName ),
 				type.isAbstract(),
 				null,
 				unionBaseTable,
@@ -197,7 +197,7 @@ public class TableBinder {
 
 		final List<SecondaryTable> secondaryTableAnns = Arrays.asList( typeClassDetails.getRepeatedAnnotationUsages(
 				SecondaryTable.class,
-				bindingContext.getBootstrapContext().getModelsContext()
+				bindingContext.getModelsContext()
 		) );
 		final List<org.hibernate.boot.models.bind.internal.SecondaryTable> result = new ArrayList<>( secondaryTableAnns.size() );
 
@@ -206,7 +206,7 @@ public class TableBinder {
 					SecondaryRow.class,
 					secondaryTableAnn.name(),
 					"table",
-					bindingContext.getBootstrapContext().getModelsContext()
+					bindingContext.getModelsContext()
 			);
 			final org.hibernate.boot.models.bind.internal.SecondaryTable binding = bindSecondaryTable( entityBinder, secondaryTableAnn, secondaryRowAnn );
 			result.add( binding );
@@ -235,7 +235,7 @@ public class TableBinder {
 				bindingState.getMetadataBuildingContext().getMetadataCollector().addTable(
 						null,
 						null,
-						logicalName.getCanonicalName(),
+						toCanonicalName( logicalName ),
 						subselectAnn.value(),
 						true,
 						bindingState.getMetadataBuildingContext(),
@@ -264,7 +264,7 @@ public class TableBinder {
 		final Table binding = bindingState.getMetadataBuildingContext().getMetadataCollector().addTable(
 				toCanonicalName( logicalSchemaName ),
 				toCanonicalName( logicalCatalogName ),
-				logicalName.getCanonicalName(),
+				toCanonicalName( logicalName ),
 				null,
 				type.isAbstract(),
 				bindingState.getMetadataBuildingContext(),
@@ -281,9 +281,9 @@ public class TableBinder {
 				logicalName,
 				logicalCatalogName,
 				logicalSchemaName,
-				physicalNamingStrategy.toPhysicalTableName( logicalName, jdbcEnvironment ),
-				physicalNamingStrategy.toPhysicalCatalogName( logicalCatalogName, jdbcEnvironment ),
-				physicalNamingStrategy.toPhysicalSchemaName( logicalSchemaName, jdbcEnvironment ),
+				namingCache.toPhysicalTableName( logicalName ),
+				namingCache.toPhysicalCatalogName( logicalCatalogName ),
+				namingCache.toPhysicalSchemaName( logicalSchemaName ),
 				binding
 		);
 	}
@@ -297,7 +297,7 @@ public class TableBinder {
 					Comment.class,
 					"",
 					"on",
-					bindingContext.getBootstrapContext().getModelsContext()
+					bindingContext.getModelsContext()
 			);
 			if ( unnamed != null ) {
 				return unnamed;
@@ -308,7 +308,7 @@ public class TableBinder {
 				Comment.class,
 				logicalTableName.getCanonicalName(),
 				"on",
-				bindingContext.getBootstrapContext().getModelsContext()
+				bindingContext.getModelsContext()
 		);
 	}
 
@@ -316,11 +316,11 @@ public class TableBinder {
 		if ( tableSource != null ) {
 			final String name = tableSource.nonEmptyName();
 			if ( name != null ) {
-				return BindingHelper.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME, bindingOptions, jdbcEnvironment );
+				return namingCache.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME );
 			}
 		}
 
-		return implicitNamingStrategy.determinePrimaryTableName(
+		return bindingState.getNamePool().intern( implicitNamingStrategy.determinePrimaryTableName(
 				new ImplicitEntityNameSource() {
 					@Override
 					public EntityNaming getEntityNaming() {
@@ -332,7 +332,7 @@ public class TableBinder {
 						return bindingState.getMetadataBuildingContext();
 					}
 				}
-		);
+		) );
 	}
 
 	private PhysicalTable bindExplicitPhysicalTable(
@@ -352,9 +352,9 @@ public class TableBinder {
 		);
 
 		final var binding = bindingState.getMetadataBuildingContext().getMetadataCollector().addTable(
-				logicalSchemaName == null ? null : logicalSchemaName.getCanonicalName(),
-				logicalCatalogName == null  ? null : logicalCatalogName.getCanonicalName(),
-				logicalName.getCanonicalName(),
+				toCanonicalName( logicalSchemaName ),
+				toCanonicalName( logicalCatalogName ),
+				toCanonicalName( logicalName ),
 				null,
 				type.isAbstract(),
 				bindingState.getMetadataBuildingContext(),
@@ -368,9 +368,9 @@ public class TableBinder {
 				logicalName,
 				logicalCatalogName,
 				logicalSchemaName,
-				physicalNamingStrategy.toPhysicalTableName( logicalName, jdbcEnvironment ),
-				logicalCatalogName == null ? null : physicalNamingStrategy.toPhysicalCatalogName( logicalCatalogName, jdbcEnvironment ),
-				logicalSchemaName == null ? null : physicalNamingStrategy.toPhysicalSchemaName( logicalSchemaName, jdbcEnvironment ),
+				namingCache.toPhysicalTableName( logicalName ),
+				logicalCatalogName == null ? null : namingCache.toPhysicalCatalogName( logicalCatalogName ),
+				logicalSchemaName == null ? null : namingCache.toPhysicalSchemaName( logicalSchemaName ),
 				binding
 		);
 	}
@@ -427,7 +427,7 @@ public class TableBinder {
 		final var binding = bindingState.getMetadataBuildingContext().getMetadataCollector().addTable(
 				toCanonicalName( logicalSchemaName ),
 				toCanonicalName( logicalCatalogName ),
-				logicalName.getCanonicalName(),
+				toCanonicalName( logicalName ),
 				null,
 				isAbstract,
 				bindingState.getMetadataBuildingContext(),
@@ -441,9 +441,9 @@ public class TableBinder {
 				logicalName,
 				logicalCatalogName,
 				logicalSchemaName,
-				physicalNamingStrategy.toPhysicalTableName( logicalName, jdbcEnvironment ),
-				physicalNamingStrategy.toPhysicalCatalogName( logicalCatalogName, jdbcEnvironment ),
-				physicalNamingStrategy.toPhysicalSchemaName( logicalSchemaName, jdbcEnvironment ),
+				namingCache.toPhysicalTableName( logicalName ),
+				namingCache.toPhysicalCatalogName( logicalCatalogName ),
+				namingCache.toPhysicalSchemaName( logicalSchemaName ),
 				binding
 		);
 	}
@@ -456,7 +456,7 @@ public class TableBinder {
 		if ( tableSource != null ) {
 			final String name = tableSource.nonEmptyName();
 			if ( name != null ) {
-				return BindingHelper.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME, bindingOptions, jdbcEnvironment );
+				return namingCache.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME );
 			}
 		}
 
@@ -495,7 +495,7 @@ public class TableBinder {
 		if ( tableSource != null ) {
 			final String name = tableSource.nonEmptyName();
 			if ( name != null ) {
-				return BindingHelper.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME, bindingOptions, jdbcEnvironment );
+				return namingCache.toIdentifier( name, QuotedIdentifierTarget.TABLE_NAME );
 			}
 		}
 
@@ -554,7 +554,7 @@ public class TableBinder {
 		final var binding = bindingState.getMetadataBuildingContext().getMetadataCollector().addTable(
 				toCanonicalName( schemaName ),
 				toCanonicalName( catalogName ),
-				logicalName.getCanonicalName(),
+				toCanonicalName( logicalName ),
 				null,
 				false,
 				bindingState.getMetadataBuildingContext(),
@@ -577,9 +577,9 @@ public class TableBinder {
 				logicalName,
 				catalogName,
 				schemaName,
-				physicalNamingStrategy.toPhysicalTableName( logicalName, jdbcEnvironment ),
-				physicalNamingStrategy.toPhysicalCatalogName( catalogName, jdbcEnvironment ),
-				physicalNamingStrategy.toPhysicalSchemaName( schemaName, jdbcEnvironment ),
+				namingCache.toPhysicalTableName( logicalName ),
+				namingCache.toPhysicalCatalogName( catalogName ),
+				namingCache.toPhysicalSchemaName( schemaName ),
 				optional,
 				owned,
 				ForeignKeySource.from( secondaryTableAnn ),
@@ -591,7 +591,7 @@ public class TableBinder {
 		if ( name == null ) {
 			return null;
 		}
-		return name.getCanonicalName();
+		return bindingState.getNamePool().intern( name.getCanonicalName() );
 	}
 
 	private Identifier resolveDatabaseIdentifier(
@@ -599,7 +599,7 @@ public class TableBinder {
 			Identifier fallback,
 			QuotedIdentifierTarget target) {
 		if ( StringHelper.isNotEmpty( explicit ) ) {
-			return BindingHelper.toIdentifier( explicit, target, bindingOptions, jdbcEnvironment );
+			return namingCache.toIdentifier( explicit, target );
 		}
 
 		if ( fallback != null ) {
@@ -313,6 +313,7 @@ public class TableKeyBinder {
 
 	private Column bindKeyColumn(Table table, Column identifierColumn, jakarta.persistence.JoinColumn joinColumn) {
 		final Column result = ColumnBinder.bindColumn(
+				bindingState,
 				ColumnSource.from( joinColumn ),
 				identifierColumn::getName,
 				false,
@@ -5,7 +5,9 @@
 package org.hibernate.boot.models.bind.internal.binders;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.MappingException;
 import org.hibernate.boot.model.naming.Identifier;
@@ -196,6 +198,7 @@ class ToOneAttributeBinder {
 
 		if ( mapsId == null ) {
 			bindJoinColumns(
+					bindingState,
 					valueJoinColumns,
 					value,
 					target,
@@ -270,6 +273,7 @@ class ToOneAttributeBinder {
 	}
 
 	private static void bindJoinColumns(
+			BindingState bindingState,
 			List<JoinColumn> joinColumnAnns,
 			ManyToOne value,
 			TargetEntityBinding target,
@@ -297,6 +301,7 @@ class ToOneAttributeBinder {
 					? targetColumns.get( i ).getName()
 					: joinColumnAnn.referencedColumnName();
 			final Column column = ColumnBinder.bindColumn(
+					bindingState,
 					ColumnSource.from( joinColumnAnn ),
 					() -> propertyName + "_" + targetColumnName,
 					uniqueByDefault,
@@ -320,13 +325,14 @@ class ToOneAttributeBinder {
 		if ( joinColumns.size() != targetColumns.size() ) {
 			return false;
 		}
-		final ArrayList<Column> unmatchedTargetColumns = new ArrayList<>( targetColumns );
+		final Map<String, Column> unmatchedTargetColumns = new HashMap<>();
+		for ( Column targetColumn : targetColumns ) {
+			unmatchedTargetColumns.putIfAbsent( targetColumn.getName(), targetColumn );
+		}
 		for ( JoinColumn joinColumn : joinColumns ) {
-			final Column targetColumn = findTargetColumn( unmatchedTargetColumns, joinColumn.referencedColumnName() );
-			if ( targetColumn == null ) {
+			if ( unmatchedTargetColumns.remove( joinColumn.referencedColumnName() ) == null ) {
 				return false;
 			}
-			unmatchedTargetColumns.remove( targetColumn );
 		}
 		return unmatchedTargetColumns.isEmpty();
 	}
@@ -339,15 +345,6 @@ class ToOneAttributeBinder {
 		return result;
 	}
 
-	private static Column findTargetColumn(List<Column> targetColumns, String columnName) {
-		for ( Column targetColumn : targetColumns ) {
-			if ( targetColumn.getName().equals( columnName ) ) {
-				return targetColumn;
-			}
-		}
-		return null;
-	}
-
 	static List<JoinColumn> orderJoinColumns(
 			List<JoinColumn> joinColumns,
 			List<Column> targetColumns,
@@ -358,37 +355,23 @@ class ToOneAttributeBinder {
 		}
 
 		final ArrayList<JoinColumn> orderedJoinColumns = new ArrayList<>( targetColumns.size() );
-		final ArrayList<JoinColumn> unmatchedJoinColumns = new ArrayList<>( joinColumns );
+		final Map<String, JoinColumn> joinColumnsByReferencedName = new HashMap<>();
+		for ( JoinColumn joinColumn : joinColumns ) {
+			joinColumnsByReferencedName.putIfAbsent( joinColumn.referencedColumnName(), joinColumn );
+		}
 		for ( Column targetColumn : targetColumns ) {
-			final JoinColumn joinColumn = findJoinColumn(
-					targetColumn,
-					unmatchedJoinColumns,
-					ownerClassName,
-					propertyName
-			);
+			final JoinColumn joinColumn = joinColumnsByReferencedName.remove( targetColumn.getName() );
+			if ( joinColumn == null ) {
+				throw new MappingException(
+						"Unable to match join column referencedColumnName to target identifier column `"
+								+ targetColumn.getName() + "` - " + ownerClassName + "." + propertyName
+				);
+			}
 			orderedJoinColumns.add( joinColumn );
-			unmatchedJoinColumns.remove( joinColumn );
 		}
 		return orderedJoinColumns;
 	}
 
-	private static JoinColumn findJoinColumn(
-			Column targetColumn,
-			List<JoinColumn> joinColumns,
-			String ownerClassName,
-			String propertyName) {
-		for ( JoinColumn joinColumn : joinColumns ) {
-			if ( targetColumn.getName().equals( joinColumn.referencedColumnName() ) ) {
-				return joinColumn;
-			}
-		}
-
-		throw new MappingException(
-				"Unable to match join column referencedColumnName to target identifier column `"
-						+ targetColumn.getName() + "` - " + ownerClassName + "." + propertyName
-		);
-	}
-
 	private static Table bindAssociationTable(
 			IdentifiableTypeMetadata ownerType,
 			PersistentClass ownerBinding,
@@ -175,7 +175,7 @@ public record AnySource(
 		if ( bindingContext != null ) {
 			result.addAll( Arrays.asList( member.getRepeatedAnnotationUsages(
 					AnyDiscriminatorValue.class,
-					bindingContext.getBootstrapContext().getModelsContext()
+					bindingContext.getModelsContext()
 			) ) );
 		}
 		if ( result.isEmpty() ) {
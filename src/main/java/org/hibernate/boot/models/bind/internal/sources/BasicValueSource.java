@@ -301,7 +301,7 @@ public record BasicValueSource(
 			String roleName,
 			BindingContext bindingContext) {
 		if ( bindingContext != null ) {
-			final var modelsContext = bindingContext.getBootstrapContext().getModelsContext();
+			final var modelsContext = bindingContext.getModelsContext();
 			for ( Convert conversion : member.getRepeatedAnnotationUsages( Convert.class, modelsContext ) ) {
 				if ( roleName.equals( conversion.attributeName() ) ) {
 					return conversion;
@@ -30,7 +30,7 @@ class PathAdjustmentCollector {
 	PathAdjustmentCollector(
 			MemberDetails member,
 			BindingContext bindingContext) {
-		final var modelsContext = bindingContext.getBootstrapContext().getModelsContext();
+		final var modelsContext = bindingContext.getModelsContext();
 		for ( AttributeOverride override : member.getRepeatedAnnotationUsages( AttributeOverride.class, modelsContext ) ) {
 			attributeOverrides.put( AttributePath.parse( override.name() ), override );
 		}
@@ -10,6 +10,7 @@ import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.service.ServiceRegistry;
 
 import jakarta.persistence.SharedCacheMode;
@@ -28,9 +29,17 @@ public interface BindingContext {
 	/// Persistence-unit scoped registrations collected during categorization.
 	GlobalRegistrations getGlobalRegistrations();
 
+	/// The Hibernate Models context the categorized model was built against.
+	///
+	/// Usually the bootstrap context's; differs when binding a categorized model
+	/// shared between bootstraps.
+	default ModelsContext getModelsContext() {
+		return getBootstrapContext().getModelsContext();
+	}
+
 	/// Registry used to resolve model class descriptors while binding.
 	default ClassDetailsRegistry getClassDetailsRegistry() {
-		return getBootstrapContext().getModelsContext().getClassDetailsRegistry();
+		return getModelsContext().getClassDetailsRegistry();
 	}
 
 	/// Shared cache mode in effect for this binding run.
@@ -52,6 +61,6 @@ public interface BindingContext {
 
 	/// Registry used to resolve annotation descriptors while binding.
 	default AnnotationDescriptorRegistry getAnnotationDescriptorRegistry() {
-		return getBootstrapContext().getModelsContext().getAnnotationDescriptorRegistry();
+		return getModelsContext().getAnnotationDescriptorRegistry();
 	}
 }
@@ -5,8 +5,9 @@
 package org.hibernate.boot.models.bind.spi;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.Set;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
@@ -25,6 +26,8 @@ import org.hibernate.boot.model.internal.GeneratorParameters;
 import org.hibernate.boot.model.internal.QueryBinder;
 import org.hibernate.boot.models.AnnotationPlacementException;
 import org.hibernate.boot.models.bind.ModelBindingLogging;
+import org.hibernate.boot.models.bind.internal.BindingPlan;
+import org.hibernate.boot.models.bind.internal.RequiredHierarchies;
 import org.hibernate.boot.models.bind.internal.binders.EntityTypeBinder;
 import org.hibernate.boot.models.bind.internal.binders.ManagedTypeBinder;
 import org.hibernate.boot.models.bind.internal.binders.MappedSuperTypeBinder;
@@ -71,12 +74,25 @@ import static org.hibernate.internal.util.StringHelper.isNotEmpty;
 /// type binders, and then runs ordered binding phases that make type, table,
 /// identifier, member, and association state available to later phases.
 ///
+/// The [BindingState] is only needed while binding; the static entry points
+/// release it once binding completes, leaving only the mapping model.
+///
+/// The produced mapping model (`PersistentClass`, `Table`, `Column`, `ForeignKey`,
+/// `Collection`) is not snapshotted for reuse across boots.  Those objects keep
+/// references to the [org.hibernate.boot.spi.MetadataBuildingContext], the
+/// `Database` and type resolution state, and the
+/// [org.hibernate.boot.spi.InFlightMetadataCollector] has no way to accept them
+/// pre-built along with their second passes.  Boots that bind an unchanged model
+/// should instead reduce what is bound; see
+/// [#coordinateBinding(CategorizedDomainModel, BindingState, BindingOptions, BindingContext, Collection)].
+///
 /// @author Steve Ebersole
 public class BindingCoordinator {
 	private final CategorizedDomainModel categorizedDomainModel;
 	private final BindingState bindingState;
 	private final BindingOptions bindingOptions;
 	private final BindingContext bindingContext;
+	private final Collection<String> requestedClassNames;
 
 	private final ModelBinders modelBinders;
 
@@ -86,10 +102,27 @@ public class BindingCoordinator {
 			BindingState bindingState,
 			BindingOptions bindingOptions,
 			BindingContext bindingContext) {
+		this( categorizedDomainModel, bindingState, bindingOptions, bindingContext, null );
+	}
+
+	/// Create a binding coordinator which binds only the hierarchies required by the
+	/// requested classes.
+	///
+	/// @param requestedClassNames Entity or mapped-superclass class names to bind,
+	/// or `null` to bind the whole model
+	///
+	/// @see RequiredHierarchies
+	public BindingCoordinator(
+			CategorizedDomainModel categorizedDomainModel,
+			BindingState bindingState,
+			BindingOptions bindingOptions,
+			BindingContext bindingContext,
+			Collection<String> requestedClassNames) {
 		this.categorizedDomainModel = categorizedDomainModel;
 		this.bindingOptions = bindingOptions;
 		this.bindingState = bindingState;
 		this.bindingContext = bindingContext;
+		this.requestedClassNames = requestedClassNames;
 
 		this.modelBinders = new ModelBinders( bindingState, bindingOptions, bindingContext );
 	}
@@ -97,7 +130,7 @@ public class BindingCoordinator {
 	/// Main entry point for binding a categorized domain model.
 	///
 	/// @param categorizedDomainModel The categorized model to bind
-	/// @param state Mutable binding state and produced mapping objects
+	/// @param state Mutable binding state, [released][BindingState#release()] once binding completes
 	/// @param options Binding options in effect
 	/// @param bindingContext Access to binding services and shared categorization state
 	public static void coordinateBinding(
@@ -112,40 +145,96 @@ public class BindingCoordinator {
 				bindingContext
 		);
 
-		coordinator.coordinateBinding();
+		try {
+			coordinator.coordinateBinding();
+		}
+		finally {
+			state.release();
+		}
 	}
 
-	private void coordinateBinding() {
+	/// Bind only the parts of a categorized domain model needed by the requested classes.
+	///
+	/// The hierarchies owning the requested classes are bound together with every
+	/// hierarchy reachable from them through associations.  Global registrations are
+	/// always bound.  Useful when an application touches a small part of a large,
+	/// shared domain model.
+	///
+	/// @param categorizedDomainModel The categorized model to bind
+	/// @param state Mutable binding state, [released][BindingState#release()] once binding completes
+	/// @param options Binding options in effect
+	/// @param bindingContext Access to binding services and shared categorization state
+	/// @param requestedClassNames Entity or mapped-superclass class names to bind
+	public static void coordinateBinding(
+			CategorizedDomainModel categorizedDomainModel,
+			BindingState state,
+			BindingOptions options,
+			BindingContext bindingContext,
+			Collection<String> requestedClassNames) {
+		final BindingCoordinator coordinator = new BindingCoordinator(
+				categorizedDomainModel,
+				state,
+				options,
+				bindingContext,
+				requestedClassNames
+		);
+
+		try {
+			coordinator.coordinateBinding();
+		}
+		finally {
+			state.release();
+		}
+	}
+
+	/// Bind the model.
+	///
+	/// Unlike the static entry points, this leaves the binding state to the caller,
+	/// which should [release][BindingState#release()] it once done with it.
+	public void coordinateBinding() {
 		// todo : to really work on these, need to changes to MetadataBuildingContext/InFlightMetadataCollector
 
 		coordinateGlobalBindings();
 		coordinateModelBindings();
+
+		bindingState.getNamePool().release();
 	}
 
 	private void coordinateModelBindings() {
+		final Set<EntityHierarchy> hierarchies = requestedClassNames == null
+				? categorizedDomainModel.getEntityHierarchies()
+				: RequiredHierarchies.resolve( categorizedDomainModel, bindingContext.getClassDetailsRegistry(), requestedClassNames ).getHierarchies();
+
 		final List<ManagedTypeBinder> binders = new ArrayList<>();
-		categorizedDomainModel.forEachEntityHierarchy( (index, hierarchy) -> {
+		hierarchies.forEach( (hierarchy) -> {
 			hierarchy.forEachType( (type, superType, entityHierarchy, relation) -> {
 				binders.add( createIdentifiableTypeBinder( type, superType, entityHierarchy, relation ) );
 			} );
 		} );
 
-		runPhase( binders, TypeBindingPhase.Tables.class, TypeBindingPhase.Tables::bindTables );
-		runPhase( binders, TypeBindingPhase.SuperType.class, TypeBindingPhase.SuperType::bindSuperType );
-		runPhase( binders, TypeBindingPhase.EntityMetadata.class, TypeBindingPhase.EntityMetadata::bindEntityMetadata );
-		runPhase( binders, TypeBindingPhase.Identifiers.class, TypeBindingPhase.Identifiers::bindIdentifier );
-		runPhase( binders, TypeBindingPhase.AssociationIdentifiers.class, TypeBindingPhase.AssociationIdentifiers::bindAssociationIdentifiers );
-		runPhase( binders, TypeBindingPhase.Members.class, TypeBindingPhase.Members::bindMembers );
-		runPhase( binders, TypeBindingPhase.CollectionIndexes.class, TypeBindingPhase.CollectionIndexes::bindCollectionIndexes );
-		runPhase( binders, TypeBindingPhase.AssociationTargets.class, TypeBindingPhase.AssociationTargets::bindAssociationTargets );
-		runPhase( binders, TypeBindingPhase.DerivedIdentifiers.class, TypeBindingPhase.DerivedIdentifiers::bindDerivedIdentifiers );
-		runPhase( binders, TypeBindingPhase.AggregateComponents.class, TypeBindingPhase.AggregateComponents::bindAggregateComponents );
-		runPhase( binders, TypeBindingPhase.TableKeys.class, TypeBindingPhase.TableKeys::bindTableKeys );
-		runPhase( binders, TypeBindingPhase.InverseAssociations.class, TypeBindingPhase.InverseAssociations::bindInverseAssociations );
-		runPhase( binders, TypeBindingPhase.ForeignKeys.class, TypeBindingPhase.ForeignKeys::bindForeignKeys );
+		final BindingPlan bindingPlan = BindingPlan.compile( binders );
+		if ( ModelBindingLogging.MODEL_BINDING_LOGGER.isDebugEnabled() ) {
+			ModelBindingLogging.MODEL_BINDING_LOGGER.debugf(
+					"Binding %s of %s entity hierarchies",
+					hierarchies.size(),
+					categorizedDomainModel.getEntityHierarchies().size()
+			);
+			bindingPlan.getStepPlans().forEach( (stepPlan) -> ModelBindingLogging.MODEL_BINDING_LOGGER.debugf(
+					"Binding step %s - %s participating binders",
+					stepPlan.getStep().phaseType().getSimpleName(),
+					stepPlan.size()
+			) );
+		}
+
+		// each step runs for all participating binders before the next one starts
+		for ( BindingPlan.StepPlan<?> stepPlan : bindingPlan.getStepPlans() ) {
+			for ( int i = 0; i < stepPlan.size(); i++ ) {
+				stepPlan.run( i );
+			}
+		}
 
 		// process identifiers
-		categorizedDomainModel.forEachEntityHierarchy( (index, hierarchy) -> {
+		hierarchies.forEach( (hierarchy) -> {
 			final EntityTypeBinder typeBinder = (EntityTypeBinder) bindingState.getTypeBinder( hierarchy.getRoot() );
 			final RootClass binding = (RootClass) typeBinder.getTypeBinding();
 			ModelBindingLogging.MODEL_BINDING_LOGGER.tracef( "Bound entity hierarchy - %s", binding.getEntityName() );
@@ -166,14 +255,6 @@ public class BindingCoordinator {
 		processFilterDefinitions( globalRegistrations );
 	}
 
-	private <P> void runPhase(List<ManagedTypeBinder> binders, Class<P> phaseType, Consumer<P> phaseAction) {
-		binders.forEach( (binder) -> {
-			if ( phaseType.isInstance( binder ) ) {
-				phaseAction.accept( phaseType.cast( binder ) );
-			}
-		} );
-	}
-
 
 	private ManagedTypeBinder createIdentifiableTypeBinder(
 			IdentifiableTypeMetadata type,
@@ -236,6 +317,11 @@ public class BindingCoordinator {
 		globalRegistrations.getConverterRegistrations().forEach( this::processConverter );
 	}
 
+	/// Registers the named query definitions.  [QueryBinder] only builds definitions
+	/// here - HQL and native SQL are interpreted when the `SessionFactory` is built, or
+	/// on first use with `hibernate.query.startup_check` disabled.  Binding stays on the
+	/// calling thread because the metadata collector is not thread-safe; see
+	/// `design/orm-integration-notes.adoc`.
 	private void processNamedQueries(GlobalRegistrations globalRegistrations) {
 		globalRegistrations.getNamedQueryRegistrations().values().forEach( (registration) -> {
 			if ( registration.isJpa() ) {
@@ -523,7 +609,7 @@ public class BindingCoordinator {
 
 		final TableGenerator[] tableGenerators = typeClassDetails.getRepeatedAnnotationUsages(
 				TableGenerator.class,
-				bindingContext.getBootstrapContext().getModelsContext()
+				bindingContext.getModelsContext()
 		);
 		for ( TableGenerator tableGeneratorAnn : tableGenerators ) {
 			// process both the table and the generator
@@ -531,7 +617,7 @@ public class BindingCoordinator {
 
 		final SequenceGenerator[] sequenceGenerators = typeClassDetails.getRepeatedAnnotationUsages(
 				SequenceGenerator.class,
-				bindingContext.getBootstrapContext().getModelsContext()
+				bindingContext.getModelsContext()
 		);
 		for ( SequenceGenerator sequenceGeneratorAnn : sequenceGenerators ) {
 			// process both the sequence and the generator
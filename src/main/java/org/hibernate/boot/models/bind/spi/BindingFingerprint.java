@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.bind.spi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyComponentPathImpl;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyJpaCompliantImpl;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyHbmImpl;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.boot.models.categorize.spi.CategorizationFingerprint;
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.boot.models.source.AvailableResourcesFingerprint;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+
+/// Fingerprint over the inputs which determine the result of categorization and
+/// binding.
+///
+/// Extends the [CategorizationFingerprint] of the classes, mapping documents and
+/// categorization settings with the settings that influence [BindingCoordinator]:
+///
+/// - the [BindingOptions] - default catalog and schema, globally quoted targets
+/// - the implicit and physical naming strategies
+/// - the `Dialect` and its version, and the JDBC environment's name qualifier
+///   support and current catalog and schema
+/// - the identifier-helper settings - keyword auto-quoting and global quoting
+///
+/// Naming strategies are identified by class, which only describes stateless
+/// strategies - see [#NAMING_STRATEGIES].  Any other strategy is recorded as a value
+/// unique to the fingerprint, so fingerprints taken with it never match.
+///
+/// @author Steve Ebersole
+public record BindingFingerprint(
+		CategorizationFingerprint categorization,
+		Map<String, String> settings) {
+
+	/// The naming strategies a fingerprint can identify.  They have no configuration
+	/// of their own, so their class determines their behavior.
+	public static final Set<Class<?>> NAMING_STRATEGIES = Set.of(
+			ImplicitNamingStrategyJpaCompliantImpl.class,
+			ImplicitNamingStrategyLegacyJpaImpl.class,
+			ImplicitNamingStrategyLegacyHbmImpl.class,
+			ImplicitNamingStrategyComponentPathImpl.class,
+			PhysicalNamingStrategyStandardImpl.class,
+			CamelCaseToUnderscoresNamingStrategy.class
+	);
+
+	private static final AtomicLong UNFINGERPRINTED_STRATEGIES = new AtomicLong();
+
+	/// Computes the fingerprint of the given inputs, hashing on the calling thread.
+	///
+	/// @param availableResources The resources to categorize and bind
+	/// @param bindingOptions The binding options in effect
+	/// @param metadataBuildingContext Access to the building options and services
+	public static BindingFingerprint from(
+			AvailableResources availableResources,
+			BindingOptions bindingOptions,
+			MetadataBuildingContext metadataBuildingContext) {
+		return from( availableResources, bindingOptions, metadataBuildingContext, null );
+	}
+
+	/// Computes the fingerprint of the given inputs.
+	///
+	/// @param availableResources The resources to categorize and bind
+	/// @param bindingOptions The binding options in effect
+	/// @param metadataBuildingContext Access to the building options and services
+	/// @param hashingExecutor Executor used to hash class files and mapping documents,
+	/// or {@code null} to hash them on the calling thread
+	///
+	/// If a naming strategy in use is not one of the
+	/// [stateless built-in strategies][#NAMING_STRATEGIES], the fingerprint will not
+	/// match any other.
+	public static BindingFingerprint from(
+			AvailableResources availableResources,
+			BindingOptions bindingOptions,
+			MetadataBuildingContext metadataBuildingContext,
+			Executor hashingExecutor) {
+		final CategorizationFingerprint categorization = CategorizationFingerprint.from(
+				availableResources,
+				metadataBuildingContext,
+				hashingExecutor
+		);
+
+		final ServiceRegistry serviceRegistry = metadataBuildingContext.getBootstrapContext().getServiceRegistry();
+		final MetadataBuildingOptions buildingOptions = metadataBuildingContext.getBuildingOptions();
+
+		final Map<String, String> settings = new TreeMap<>();
+		settings.put( "binding.default-catalog", render( bindingOptions.getDefaultCatalogName() ) );
+		settings.put( "binding.default-schema", render( bindingOptions.getDefaultSchemaName() ) );
+		settings.put( "binding.globally-quoted", String.valueOf( new TreeSet<>( bindingOptions.getGloballyQuotedIdentifierTargets() ) ) );
+		settings.put( "naming.implicit", namingStrategy( buildingOptions.getImplicitNamingStrategy() ) );
+		settings.put( "naming.physical", namingStrategy( buildingOptions.getPhysicalNamingStrategy() ) );
+
+		final JdbcServices jdbcServices = serviceRegistry.requireService( JdbcServices.class );
+		final Dialect dialect = jdbcServices.getDialect();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		settings.put( "jdbc.dialect", dialect.getClass().getName() );
+		settings.put( "jdbc.dialect-version", String.valueOf( dialect.getVersion() ) );
+		settings.put( "jdbc.name-qualifier-support", String.valueOf( jdbcEnvironment.getNameQualifierSupport() ) );
+		settings.put( "jdbc.current-catalog", render( jdbcEnvironment.getCurrentCatalog() ) );
+		settings.put( "jdbc.current-schema", render( jdbcEnvironment.getCurrentSchema() ) );
+
+		final Map<String, Object> configurationSettings = serviceRegistry.requireService( ConfigurationService.class ).getSettings();
+		settings.put( "identifiers.auto-quote-keywords", booleanSetting( AvailableSettings.KEYWORD_AUTO_QUOTING_ENABLED, configurationSettings ) );
+		settings.put( "identifiers.globally-quoted", booleanSetting( AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS, configurationSettings ) );
+		settings.put( "identifiers.globally-quoted-skip-column-definitions", booleanSetting( AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS_SKIP_COLUMN_DEFINITIONS, configurationSettings ) );
+
+		return new BindingFingerprint( categorization, Collections.unmodifiableMap( settings ) );
+	}
+
+	private static String render(Identifier identifier) {
+		return identifier == null ? null : identifier.render();
+	}
+
+	private static String namingStrategy(Object strategy) {
+		if ( strategy == null ) {
+			return null;
+		}
+		if ( !NAMING_STRATEGIES.contains( strategy.getClass() ) ) {
+			// its configuration is unknown - record a value no other fingerprint shares
+			return strategy.getClass().getName() + "#unfingerprinted-" + UNFINGERPRINTED_STRATEGIES.incrementAndGet();
+		}
+		return strategy.getClass().getName();
+	}
+
+	private static String booleanSetting(String name, Map<String, Object> configurationSettings) {
+		return String.valueOf( ConfigurationHelper.getBoolean( name, configurationSettings, false ) );
+	}
+
+	/// The fingerprint of the classes and mapping documents.
+	public AvailableResourcesFingerprint resources() {
+		return categorization.resources();
+	}
+
+	/// Whether this fingerprint describes the same inputs as one taken earlier.
+	///
+	/// Resources whose content could not be hashed never match.
+	public boolean matches(BindingFingerprint previous) {
+		return settings.equals( previous.settings )
+				&& categorization.matches( previous.categorization );
+	}
+
+	/// The names of the categorization and binding settings whose value differs from
+	/// the earlier fingerprint.
+	public Set<String> changedSettings(BindingFingerprint previous) {
+		final Set<String> changed = categorization.changedSettings( previous.categorization );
+		changed.addAll( CategorizationFingerprint.changedSettings( settings, previous.settings ) );
+		return changed;
+	}
+
+	/// A single hash over all inputs, suitable as a cache key.
+	///
+	/// Two fingerprints with equal keys have equal inputs.  Because resources whose
+	/// content could not be read are keyed as such, a key may repeat while
+	/// [#matches] reports a mismatch; caches should check [#matches] when they can.
+	public String toKey() {
+		final StringBuilder content = new StringBuilder();
+		content.append( "categorization:" ).append( categorization.toKey() ).append( '\n' );
+		new TreeMap<>( settings ).forEach( (name, value) -> content.append( "setting:" ).append( name ).append( '=' ).append( value ).append( '\n' ) );
+		return AvailableResourcesFingerprint.hash( content.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+}
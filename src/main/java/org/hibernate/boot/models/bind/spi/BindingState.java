@@ -5,6 +5,7 @@
 package org.hibernate.boot.models.bind.spi;
 
 import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.models.bind.internal.NamePool;
 import org.hibernate.boot.models.bind.internal.SecondaryTable;
 import org.hibernate.boot.models.bind.internal.binders.AggregateComponentBinding;
 import org.hibernate.boot.models.bind.internal.binders.AssociationTargetBinding;
@@ -50,6 +51,18 @@ public interface BindingState {
 	/// JDBC services used for dialect and identifier handling.
 	JdbcServices getJdbcServices();
 
+	/// Intern pool for names created while binding, released once binding completes.
+	NamePool getNamePool();
+
+	/// Drop the boot-only state collected while binding - type binders with their
+	/// sources and categorized metadata, table references, identifier bindings and
+	/// all pending bindings.
+	///
+	/// The static [BindingCoordinator] entry points call this once binding completes;
+	/// the mapping model produced into the metadata collector is unaffected.  The
+	/// state is unusable afterwards.
+	void release();
+
 	/// Apply a categorized global filter definition to the mapping model.
 	void apply(FilterDefRegistration registration);
 
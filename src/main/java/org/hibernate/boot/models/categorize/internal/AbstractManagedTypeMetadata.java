@@ -13,15 +13,14 @@ import org.hibernate.boot.models.categorize.spi.CategorizationContext;
 import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
-import static org.hibernate.boot.models.categorize.internal.CategorizationHelper.determineAttributeNature;
-import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
-
 /**
  * Models metadata about a JPA {@linkplain jakarta.persistence.metamodel.ManagedType managed-type}.
  *
@@ -99,56 +98,63 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// attribute handling
 
-	protected abstract List<AttributeMetadata> attributeList();
+	protected abstract AttributeTable attributeTable();
 
 	@Override
 	public int getNumberOfAttributes() {
-		return attributeList().size();
+		return attributeTable().size();
 	}
 
 	@Override
 	public Collection<AttributeMetadata> getAttributes() {
-		return attributeList();
+		return attributeTable().asList( this );
 	}
 
 	@Override
 	public AttributeMetadata findAttribute(String name) {
-		final List<AttributeMetadata> attributeList = attributeList();
-		for ( int i = 0; i < attributeList.size(); i++ ) {
-			final AttributeMetadata attribute = attributeList.get( i );
-			if ( attribute.getName().equals( name ) ) {
-				return attribute;
-			}
-		}
-		return null;
+		final AttributeTable attributeTable = attributeTable();
+		final int position = attributeTable.indexOf( name );
+		return position < 0 ? null : attributeTable.attribute( this, position );
 	}
 
 	@Override
 	public void forEachAttribute(IndexedConsumer<AttributeMetadata> consumer) {
-		for ( int i = 0; i < attributeList().size(); i++ ) {
-			consumer.accept( i, attributeList().get( i ) );
+		final AttributeTable attributeTable = attributeTable();
+		for ( int i = 0; i < attributeTable.size(); i++ ) {
+			consumer.accept( i, attributeTable.attribute( this, i ) );
 		}
 	}
 
-	protected List<AttributeMetadata> resolveAttributes(AllMemberConsumer memberConsumer) {
+	protected AttributeTable resolveAttributes(AllMemberConsumer memberConsumer) {
 		final List<MemberDetails> backingMembers = getModelContext()
 				.getPersistentAttributeMemberResolver()
 				.resolveAttributesMembers( classDetails, getAccessType(), memberConsumer, modelContext );
+		return AttributeTable.from( classDetails, getAccessType(), backingMembers );
+	}
 
-		final List<AttributeMetadata> attributeList = arrayList( backingMembers.size() );
-
-		for ( MemberDetails backingMember : backingMembers ) {
-			var memberType = backingMember.getType().determineRelativeType( classDetails );
-			var attributeNature = determineAttributeNature( backingMember, memberType );
-			final AttributeMetadata attribute = new AttributeMetadataImpl(
-					backingMember.resolveAttributeName(),
-					attributeNature,
-					backingMember
-			);
-			attributeList.add( attribute );
+	/**
+	 * Form of {@link #resolveAttributes} for types categorized once per hierarchy
+	 * extending them (mapped-superclasses), reusing the table resolved for an earlier
+	 * hierarchy with the same access type.  The member consumer still sees every
+	 * declared member.
+	 */
+	protected AttributeTable resolveSharedAttributes(AllMemberConsumer memberConsumer) {
+		final AttributeTable existing = modelContext.findSharedAttributeTable( classDetails, getAccessType() );
+		if ( existing == null ) {
+			final AttributeTable resolved = resolveAttributes( memberConsumer );
+			modelContext.registerSharedAttributeTable( resolved );
+			return resolved;
 		}
 
-		return attributeList;
+		final List<FieldDetails> fields = classDetails.getFields();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			memberConsumer.acceptMember( fields.get( i ) );
+		}
+		final List<MethodDetails> methods = classDetails.getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			memberConsumer.acceptMember( methods.get( i ) );
+		}
+		return existing;
 	}
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
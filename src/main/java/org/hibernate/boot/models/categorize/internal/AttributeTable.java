@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.internal;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.ManagedTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+import jakarta.persistence.AccessType;
+
+/// Columnar storage of the persistent attributes of a managed class: parallel
+/// arrays of names, nature ordinals and backing members.
+///
+/// Attribute metadata is exposed through lightweight views created on demand -
+/// see [#asList].  A view is identified by the managed type it was obtained from
+/// and its position, so the table of a mapped superclass can be shared between
+/// all the hierarchies extending it while each hierarchy still sees attributes
+/// of its own (e.g. as [org.hibernate.boot.models.bind.spi.TableOwner]).
+///
+/// @author Steve Ebersole
+public final class AttributeTable {
+	private static final AttributeNature[] NATURES = AttributeNature.values();
+
+	private final ClassDetails classDetails;
+	private final AccessType accessType;
+
+	private final String[] names;
+	private final byte[] natures;
+	private final MemberDetails[] members;
+
+	private AttributeTable(
+			ClassDetails classDetails,
+			AccessType accessType,
+			String[] names,
+			byte[] natures,
+			MemberDetails[] members) {
+		this.classDetails = classDetails;
+		this.accessType = accessType;
+		this.names = names;
+		this.natures = natures;
+		this.members = members;
+	}
+
+	/// Build the table from the resolved backing members of a managed class.
+	public static AttributeTable from(
+			ClassDetails classDetails,
+			AccessType accessType,
+			List<MemberDetails> backingMembers) {
+		final int size = backingMembers.size();
+		final String[] names = new String[size];
+		final byte[] natures = new byte[size];
+		final MemberDetails[] members = new MemberDetails[size];
+
+		for ( int i = 0; i < size; i++ ) {
+			final MemberDetails backingMember = backingMembers.get( i );
+			final var memberType = backingMember.getType().determineRelativeType( classDetails );
+			names[i] = backingMember.resolveAttributeName();
+			natures[i] = (byte) CategorizationHelper.determineAttributeNature( backingMember, memberType ).ordinal();
+			members[i] = backingMember;
+		}
+
+		return new AttributeTable( classDetails, accessType, names, natures, members );
+	}
+
+	public ClassDetails getClassDetails() {
+		return classDetails;
+	}
+
+	public AccessType getAccessType() {
+		return accessType;
+	}
+
+	public int size() {
+		return names.length;
+	}
+
+	public String getName(int position) {
+		return names[position];
+	}
+
+	public AttributeNature getNature(int position) {
+		return NATURES[natures[position]];
+	}
+
+	public MemberDetails getMember(int position) {
+		return members[position];
+	}
+
+	/// The position of the named attribute, or `-1`.
+	public int indexOf(String name) {
+		for ( int i = 0; i < names.length; i++ ) {
+			if ( names[i].equals( name ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/// The attribute at the given position, as seen from the given managed type.
+	public AttributeMetadata attribute(ManagedTypeMetadata owner, int position) {
+		return new AttributeView( owner, this, position );
+	}
+
+	/// The attributes as seen from the given managed type.
+	public List<AttributeMetadata> asList(ManagedTypeMetadata owner) {
+		return new AttributeList( owner, this );
+	}
+
+	private static final class AttributeList extends AbstractList<AttributeMetadata> implements RandomAccess {
+		private final ManagedTypeMetadata owner;
+		private final AttributeTable table;
+
+		private AttributeList(ManagedTypeMetadata owner, AttributeTable table) {
+			this.owner = owner;
+			this.table = table;
+		}
+
+		@Override
+		public AttributeMetadata get(int index) {
+			return new AttributeView( owner, table, index );
+		}
+
+		@Override
+		public int size() {
+			return table.size();
+		}
+	}
+
+	private record AttributeView(ManagedTypeMetadata owner, AttributeTable table, int position)
+			implements AttributeMetadata {
+		@Override
+		public String getName() {
+			return table.names[position];
+		}
+
+		@Override
+		public AttributeNature getNature() {
+			return table.getNature( position );
+		}
+
+		@Override
+		public MemberDetails getMember() {
+			return table.members[position];
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof AttributeView that
+					&& owner == that.owner
+					&& table == that.table
+					&& position == that.position;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode( owner ) + position;
+		}
+
+		@Override
+		public String toString() {
+			return "AttributeMetadata(`" + getName() + "`)";
+		}
+	}
+}
@@ -4,7 +4,9 @@
  */
 package org.hibernate.boot.models.categorize.internal;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.boot.model.convert.spi.ConverterRegistry;
 import org.hibernate.boot.model.relational.Database;
@@ -14,6 +16,9 @@ import org.hibernate.boot.models.categorize.spi.JpaEventListener;
 import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
 import org.hibernate.boot.spi.EffectiveMappingDefaults;
 import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
 
 /**
  * @author Steve Ebersole
@@ -21,6 +26,7 @@ import org.hibernate.boot.spi.MetadataBuildingContext;
 public class CategorizationContextImpl implements CategorizationContext {
 	private final MetadataBuildingContext metadataBuildingContext;
 	private final GlobalRegistrations globalRegistrations;
+	private final Map<String, AttributeTable> sharedAttributeTables = new HashMap<>();
 
 	public CategorizationContextImpl(
 			MetadataBuildingContext metadataBuildingContext,
@@ -63,4 +69,21 @@ public class CategorizationContextImpl implements CategorizationContext {
 	public List<JpaEventListener> getDefaultEventListeners() {
 		return getGlobalRegistrations().getEntityListenerRegistrations();
 	}
+
+	@Override
+	public AttributeTable findSharedAttributeTable(ClassDetails classDetails, AccessType accessType) {
+		return sharedAttributeTables.get( sharedAttributeTableKey( classDetails, accessType ) );
+	}
+
+	@Override
+	public void registerSharedAttributeTable(AttributeTable attributeTable) {
+		sharedAttributeTables.put(
+				sharedAttributeTableKey( attributeTable.getClassDetails(), attributeTable.getAccessType() ),
+				attributeTable
+		);
+	}
+
+	private static String sharedAttributeTableKey(ClassDetails classDetails, AccessType accessType) {
+		return classDetails.getName() + "#" + accessType;
+	}
 }
@@ -4,8 +4,10 @@
  */
 package org.hibernate.boot.models.categorize.internal;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,6 +40,8 @@ public class DomainModelCategorizationCollector {
 	private final Map<String,ClassDetails> mappedSuperclasses = new HashMap<>();
 	private final Map<String,ClassDetails> embeddables = new HashMap<>();
 	private final GlobalRegistrationsImpl globalRegistrations;
+	private final Set<ClassDetails> appliedClassDetails = Collections.newSetFromMap( new IdentityHashMap<>() );
+	private int duplicateClassDetailsApplications;
 	private final AccessTypeIndependenceValidator mappedSuperclassAccessTypeIndependenceValidator =
 			new AccessTypeIndependenceValidator();
 
@@ -68,6 +72,21 @@ public class DomainModelCategorizationCollector {
 		return globalRegistrations;
 	}
 
+	/**
+	 * The number of distinct {@linkplain ClassDetails} collected through {@linkplain #apply(ClassDetails)}.
+	 */
+	public int getAppliedClassDetailsCount() {
+		return appliedClassDetails.size();
+	}
+
+	/**
+	 * The number of calls to {@linkplain #apply(ClassDetails)} which were skipped because
+	 * the same {@linkplain ClassDetails} had already been collected.
+	 */
+	public int getDuplicateClassDetailsApplications() {
+		return duplicateClassDetailsApplications;
+	}
+
 
 	public void apply(JaxbEntityMappingsImpl jaxbRoot) {
 		getGlobalRegistrations().collectJavaTypeRegistrations( jaxbRoot.getJavaTypeRegistrations() );
@@ -94,7 +113,17 @@ public class DomainModelCategorizationCollector {
 		// todo : named graphs
 	}
 
+	/**
+	 * Collect the registrations and managed-type categorization for the given class.
+	 * Each {@linkplain ClassDetails} is collected at most once; repeated applications of
+	 * the same instance are ignored.
+	 */
 	public void apply(ClassDetails classDetails) {
+		if ( !appliedClassDetails.add( classDetails ) ) {
+			duplicateClassDetailsApplications++;
+			return;
+		}
+
 		getGlobalRegistrations().collectJavaTypeRegistrations( classDetails );
 		getGlobalRegistrations().collectJdbcTypeRegistrations( classDetails );
 		getGlobalRegistrations().collectConverterRegistrations( classDetails );
@@ -133,6 +162,10 @@ public class DomainModelCategorizationCollector {
 	/**
 	 * Builder for {@linkplain CategorizedDomainModel} based on our internal state plus
 	 * the incoming set of managed types.
+	 * <p/>
+	 * The result is read-only: the {@linkplain GlobalRegistrationsImpl#freeze() global registrations}
+	 * are frozen and the hierarchies, mapped-superclasses and embeddables are exposed as
+	 * unmodifiable, right-sized copies.
 	 *
 	 * @param entityHierarchies All entity hierarchies defined in the persistence-unit, built based
 	 * on {@linkplain #getRootEntities()}
@@ -141,14 +174,19 @@ public class DomainModelCategorizationCollector {
 	 */
 	public CategorizedDomainModel createResult(Set<EntityHierarchy> entityHierarchies) {
 		validateMappedSuperclassAccessTypeIndependence( entityHierarchies );
+		getGlobalRegistrations().freeze();
 		return new CategorizedDomainModelImpl(
-				entityHierarchies,
-				mappedSuperclasses,
-				embeddables,
+				Collections.unmodifiableSet( entityHierarchies ),
+				freeze( mappedSuperclasses ),
+				freeze( embeddables ),
 				getGlobalRegistrations()
 		);
 	}
 
+	private static Map<String, ClassDetails> freeze(Map<String, ClassDetails> map) {
+		return map.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap( new HashMap<>( map ) );
+	}
+
 	private void validateMappedSuperclassAccessTypeIndependence(Set<EntityHierarchy> entityHierarchies) {
 		for ( EntityHierarchy entityHierarchy : entityHierarchies ) {
 			entityHierarchy.forEachType( (type, superType, hierarchy, relation) -> {
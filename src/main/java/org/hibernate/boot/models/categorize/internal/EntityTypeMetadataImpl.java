@@ -18,7 +18,6 @@ import org.hibernate.annotations.Synchronize;
 import org.hibernate.boot.model.CustomSql;
 import org.hibernate.boot.model.naming.EntityNaming;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
-import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.JpaEventListener;
@@ -42,7 +41,7 @@ public class EntityTypeMetadataImpl
 	private final String entityName;
 	private final String jpaEntityName;
 
-	private final List<AttributeMetadata> attributeList;
+	private final AttributeTable attributeTable;
 
 	private final boolean mutable;
 	private final boolean cacheable;
@@ -77,7 +76,7 @@ public class EntityTypeMetadataImpl
 		this.jpaEntityName = determineJpaEntityName( entityAnnotation, entityName );
 
 		final LifecycleCallbackCollector lifecycleCallbackCollector = new LifecycleCallbackCollector( classDetails, modelContext );
-		this.attributeList = resolveAttributes( lifecycleCallbackCollector );
+		this.attributeTable = resolveAttributes( lifecycleCallbackCollector );
 		this.hierarchyEventListeners = collectHierarchyEventListeners( lifecycleCallbackCollector.resolve() );
 		this.completeEventListeners = collectCompleteEventListeners( modelContext );
 
@@ -118,7 +117,7 @@ public class EntityTypeMetadataImpl
 		this.jpaEntityName = determineJpaEntityName( entityAnnotation, entityName );
 
 		final LifecycleCallbackCollector lifecycleCallbackCollector = new LifecycleCallbackCollector( classDetails, modelContext );
-		this.attributeList = resolveAttributes( lifecycleCallbackCollector );
+		this.attributeTable = resolveAttributes( lifecycleCallbackCollector );
 		this.hierarchyEventListeners = collectHierarchyEventListeners( lifecycleCallbackCollector.resolve() );
 		this.completeEventListeners = collectCompleteEventListeners( modelContext );
 
@@ -142,8 +141,8 @@ public class EntityTypeMetadataImpl
 	}
 
 	@Override
-	protected List<AttributeMetadata> attributeList() {
-		return attributeList;
+	protected AttributeTable attributeTable() {
+		return attributeTable;
 	}
 
 	@Override
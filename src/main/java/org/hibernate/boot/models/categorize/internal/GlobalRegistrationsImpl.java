@@ -8,11 +8,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AnnotationException;
 import org.hibernate.annotations.FilterDef;
@@ -58,6 +62,7 @@ import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.TypeDetails;
 
 import jakarta.persistence.Converter;
 import jakarta.persistence.Entity;
@@ -100,6 +105,10 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	private Map<String, NamedQueryRegistration> namedStoredProcedureQueryRegistrations;
 	private Map<String, NamedEntityGraphDefinition> namedEntityGraphRegistrations;
 
+	private Map<String, List<ConversionRegistration>> autoApplyRegistrationsByDomainType;
+	private final Map<String, List<ConversionRegistration>> autoApplyRegistrationsByValueType = new ConcurrentHashMap<>();
+	private boolean frozen;
+
 	public GlobalRegistrationsImpl(ModelsContext modelsContext) {
 		this( modelsContext, modelsContext.getClassDetailsRegistry(), modelsContext.getAnnotationDescriptorRegistry() );
 	}
@@ -123,6 +132,75 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 		return converterRegistrations == null ? emptyList() : converterRegistrations;
 	}
 
+	@Override
+	public List<ConversionRegistration> getAutoAppliedConverterRegistrations(ClassDetails valueType) {
+		if ( autoApplyRegistrationsByDomainType == null ) {
+			// still collecting
+			return collectAutoApplyRegistrations( valueType, indexAutoApplyByDomainType( getConverterRegistrations() ) );
+		}
+		if ( autoApplyRegistrationsByDomainType.isEmpty() ) {
+			return emptyList();
+		}
+		return autoApplyRegistrationsByValueType.computeIfAbsent(
+				valueType.getName(),
+				(name) -> collectAutoApplyRegistrations( valueType, autoApplyRegistrationsByDomainType )
+		);
+	}
+
+	private static List<ConversionRegistration> collectAutoApplyRegistrations(
+			ClassDetails valueType,
+			Map<String, List<ConversionRegistration>> byDomainType) {
+		if ( byDomainType.isEmpty() ) {
+			return emptyList();
+		}
+
+		final List<ConversionRegistration> registrations = new ArrayList<>();
+		final String wrapperName = wrapperName( valueType.getName() );
+		if ( wrapperName != null ) {
+			final List<ConversionRegistration> wrapperRegistrations = byDomainType.get( wrapperName );
+			if ( wrapperRegistrations != null ) {
+				registrations.addAll( wrapperRegistrations );
+			}
+		}
+
+		// breadth-first over the type hierarchy, so more specific domain types come first
+		final Set<String> visited = new HashSet<>();
+		final ArrayDeque<ClassDetails> queue = new ArrayDeque<>();
+		queue.add( valueType );
+		while ( !queue.isEmpty() ) {
+			final ClassDetails type = queue.poll();
+			if ( !visited.add( type.getName() ) ) {
+				continue;
+			}
+			final List<ConversionRegistration> direct = byDomainType.get( type.getName() );
+			if ( direct != null ) {
+				registrations.addAll( direct );
+			}
+			if ( type.getSuperClass() != null ) {
+				queue.add( type.getSuperClass() );
+			}
+			final List<TypeDetails> interfaces = type.getImplementedInterfaces();
+			for ( int i = 0; i < interfaces.size(); i++ ) {
+				queue.add( interfaces.get( i ).determineRawClass() );
+			}
+		}
+		return registrations.isEmpty() ? emptyList() : List.copyOf( registrations );
+	}
+
+	private static String wrapperName(String typeName) {
+		return switch ( typeName ) {
+			case "boolean" -> Boolean.class.getName();
+			case "byte" -> Byte.class.getName();
+			case "char" -> Character.class.getName();
+			case "short" -> Short.class.getName();
+			case "int" -> Integer.class.getName();
+			case "long" -> Long.class.getName();
+			case "float" -> Float.class.getName();
+			case "double" -> Double.class.getName();
+			default -> null;
+		};
+	}
+
 	@Override
 	public List<JavaTypeRegistration> getJavaTypeRegistrations() {
 		return javaTypeRegistrations == null ? emptyList() : javaTypeRegistrations;
@@ -193,6 +271,83 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 		return namedEntityGraphRegistrations == null ? emptyMap() : namedEntityGraphRegistrations;
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Freezing
+
+	/**
+	 * Whether {@linkplain #freeze()} has been called.
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkNotFrozen(String registration) {
+		if ( frozen ) {
+			throw new IllegalStateException( "Global registrations are frozen, cannot collect " + registration );
+		}
+	}
+
+	/**
+	 * Ends collection.  Every registration list and map is replaced by an unmodifiable,
+	 * right-sized copy (absent ones by empty collections) and auto-applied converter
+	 * registrations are indexed by domain type.  The auto-applied converters for a value type are then
+	 * resolved once per type and remembered.  Binding reads these repeatedly, potentially from
+	 * multiple threads; collecting further registrations afterwards fails with an
+	 * {@link IllegalStateException}.
+	 */
+	public void freeze() {
+		if ( frozen ) {
+			return;
+		}
+		frozen = true;
+
+		jpaEventListeners = freezeList( jpaEventListeners );
+		converterRegistrations = freezeList( converterRegistrations );
+		javaTypeRegistrations = freezeList( javaTypeRegistrations );
+		jdbcTypeRegistrations = freezeList( jdbcTypeRegistrations );
+		userTypeRegistrations = freezeList( userTypeRegistrations );
+		compositeUserTypeRegistrations = freezeList( compositeUserTypeRegistrations );
+		collectionTypeRegistrations = freezeList( collectionTypeRegistrations );
+		embeddableInstantiatorRegistrations = freezeList( embeddableInstantiatorRegistrations );
+		filterDefRegistrations = freezeMap( filterDefRegistrations );
+
+		sequenceGeneratorRegistrations = freezeMap( sequenceGeneratorRegistrations );
+		tableGeneratorRegistrations = freezeMap( tableGeneratorRegistrations );
+		genericGeneratorRegistrations = freezeMap( genericGeneratorRegistrations );
+		namedQueryRegistrations = freezeMap( namedQueryRegistrations );
+		namedNativeQueryRegistrations = freezeMap( namedNativeQueryRegistrations );
+		namedStoredProcedureQueryRegistrations = freezeMap( namedStoredProcedureQueryRegistrations );
+		namedEntityGraphRegistrations = freezeMap( namedEntityGraphRegistrations );
+
+		autoApplyRegistrationsByDomainType = indexAutoApplyByDomainType( converterRegistrations );
+	}
+
+	private static <T> List<T> freezeList(List<T> list) {
+		return list == null ? emptyList() : List.copyOf( list );
+	}
+
+	private static <K, V> Map<K, V> freezeMap(Map<K, V> map) {
+		if ( map == null || map.isEmpty() ) {
+			return emptyMap();
+		}
+		// copying re-sizes the table to the content and keeps the iteration order stable
+		return Collections.unmodifiableMap( new HashMap<>( map ) );
+	}
+
+	private static Map<String, List<ConversionRegistration>> indexAutoApplyByDomainType(List<ConversionRegistration> registrations) {
+		final Map<String, List<ConversionRegistration>> index = new HashMap<>();
+		for ( int i = 0; i < registrations.size(); i++ ) {
+			final ConversionRegistration registration = registrations.get( i );
+			if ( registration.explicitDomainType() != null && registration.autoApply() ) {
+				index.computeIfAbsent( registration.explicitDomainType().getName(), (name) -> new ArrayList<>( 1 ) )
+						.add( registration );
+			}
+		}
+		index.replaceAll( (name, list) -> List.copyOf( list ) );
+		return freezeMap( index );
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// JavaTypeRegistration
 
@@ -219,6 +374,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public  void collectJavaTypeRegistration(JavaTypeRegistration registration) {
+		checkNotFrozen( "JavaTypeRegistration for " + registration.domainType().getName() );
 		if ( javaTypeRegistrations == null ) {
 			javaTypeRegistrations = new ArrayList<>();
 		}
@@ -248,6 +404,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectJdbcTypeRegistration(Integer registrationCode, ClassDetails descriptor) {
+		checkNotFrozen( "JdbcTypeRegistration for code " + registrationCode );
 		if ( jdbcTypeRegistrations == null ) {
 			jdbcTypeRegistrations = new ArrayList<>();
 		}
@@ -311,6 +468,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectConverterRegistration(ConversionRegistration conversion) {
+		checkNotFrozen( "ConverterRegistration for " + conversion.converterType().getName() );
 		if ( converterRegistrations == null ) {
 			converterRegistrations = new ArrayList<>();
 		}
@@ -350,6 +508,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 			NamedQueryRegistration.Kind kind,
 			boolean isJpa,
 			Annotation configuration) {
+		checkNotFrozen( "named query " + name );
 		final Map<String, NamedQueryRegistration> registrations = switch ( kind ) {
 			case HQL -> {
 				if ( namedQueryRegistrations == null ) {
@@ -389,6 +548,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 			String name,
 			String entityName,
 			Annotation configuration) {
+		checkNotFrozen( "named entity graph " + name );
 		if ( namedEntityGraphRegistrations == null ) {
 			namedEntityGraphRegistrations = new HashMap<>();
 		}
@@ -440,6 +600,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectUserTypeRegistration(ClassDetails domainClass, ClassDetails userTypeClass) {
+		checkNotFrozen( "TypeRegistration for " + domainClass.getName() );
 		if ( userTypeRegistrations == null ) {
 			userTypeRegistrations = new ArrayList<>();
 		}
@@ -469,6 +630,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectCompositeUserTypeRegistration(ClassDetails domainClass, ClassDetails userTypeClass) {
+		checkNotFrozen( "CompositeTypeRegistration for " + domainClass.getName() );
 		if ( compositeUserTypeRegistrations == null ) {
 			compositeUserTypeRegistrations = new ArrayList<>();
 		}
@@ -525,6 +687,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 			CollectionClassification classification,
 			ClassDetails userTypeClass,
 			Map<String,String> parameters) {
+		checkNotFrozen( "CollectionTypeRegistration for " + classification );
 		if ( collectionTypeRegistrations == null ) {
 			collectionTypeRegistrations = new ArrayList<>();
 		}
@@ -554,6 +717,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectEmbeddableInstantiatorRegistration(ClassDetails embeddableClass, ClassDetails instantiator) {
+		checkNotFrozen( "EmbeddableInstantiatorRegistration for " + embeddableClass.getName() );
 		if ( embeddableInstantiatorRegistrations == null ) {
 			embeddableInstantiatorRegistrations = new ArrayList<>();
 		}
@@ -617,6 +781,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectFilterDefinition(String name, String defaultCondition, Map<String, ClassDetails> parameters) {
+		checkNotFrozen( "filter definition " + name );
 		if ( filterDefRegistrations == null ) {
 			filterDefRegistrations = new HashMap<>();
 		}
@@ -647,6 +812,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void addJpaEventListener(JpaEventListener listener) {
+		checkNotFrozen( "entity listener " + listener.getCallbackClass().getName() );
 		if ( jpaEventListeners == null ) {
 			jpaEventListeners = new ArrayList<>();
 		}
@@ -703,6 +869,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectSequenceGenerator(SequenceGeneratorRegistration generatorRegistration) {
+		checkNotFrozen( "sequence generator " + generatorRegistration.name() );
 		if ( sequenceGeneratorRegistrations == null ) {
 			sequenceGeneratorRegistrations = new HashMap<>();
 		}
@@ -744,6 +911,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectTableGenerator(TableGeneratorRegistration generatorRegistration) {
+		checkNotFrozen( "table generator " + generatorRegistration.name() );
 		if ( tableGeneratorRegistrations == null ) {
 			tableGeneratorRegistrations = new HashMap<>();
 		}
@@ -780,6 +948,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations {
 	}
 
 	public void collectGenericGenerator(GenericGeneratorRegistration generatorRegistration) {
+		checkNotFrozen( "generic generator " + generatorRegistration.name() );
 		if ( genericGeneratorRegistrations == null ) {
 			genericGeneratorRegistrations = new HashMap<>();
 		}
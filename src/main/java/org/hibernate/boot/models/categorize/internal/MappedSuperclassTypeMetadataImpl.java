@@ -6,7 +6,6 @@ package org.hibernate.boot.models.categorize.internal;
 
 import java.util.List;
 
-import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.MappedSuperclassTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.CategorizationContext;
@@ -20,7 +19,7 @@ public class MappedSuperclassTypeMetadataImpl
 		extends AbstractIdentifiableTypeMetadata
 		implements MappedSuperclassTypeMetadata {
 
-	private final List<AttributeMetadata> attributeList;
+	private final AttributeTable attributeTable;
 	private final List<JpaEventListener> hierarchyEventListeners;
 	private final List<JpaEventListener> completeEventListeners;
 
@@ -33,7 +32,7 @@ public class MappedSuperclassTypeMetadataImpl
 		super( classDetails, hierarchy, inheritanceState, modelContext );
 
 		final LifecycleCallbackCollector lifecycleCallbackCollector = new LifecycleCallbackCollector( classDetails, modelContext );
-		this.attributeList = resolveAttributes( lifecycleCallbackCollector );
+		this.attributeTable = resolveSharedAttributes( lifecycleCallbackCollector );
 		this.hierarchyEventListeners = collectHierarchyEventListeners( lifecycleCallbackCollector.resolve() );
 		this.completeEventListeners = collectCompleteEventListeners( modelContext );
 
@@ -50,7 +49,7 @@ public class MappedSuperclassTypeMetadataImpl
 		super( classDetails, hierarchy, superType, inheritanceState, modelContext );
 
 		final LifecycleCallbackCollector lifecycleCallbackCollector = new LifecycleCallbackCollector( classDetails, modelContext );
-		this.attributeList = resolveAttributes( lifecycleCallbackCollector );
+		this.attributeTable = resolveSharedAttributes( lifecycleCallbackCollector );
 		this.hierarchyEventListeners = collectHierarchyEventListeners( lifecycleCallbackCollector.resolve() );
 		this.completeEventListeners = collectCompleteEventListeners( modelContext );
 
@@ -58,8 +57,8 @@ public class MappedSuperclassTypeMetadataImpl
 	}
 
 	@Override
-	protected List<AttributeMetadata> attributeList() {
-		return attributeList;
+	protected AttributeTable attributeTable() {
+		return attributeTable;
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class NonAggregatedKeyMappingImpl implements NonAggregatedKeyMapping {
 	@Override
 	public boolean contains(AttributeMetadata attributeMetadata) {
 		for ( int i = 0; i < idAttributes.size(); i++ ) {
-			if ( idAttributes.get( i ) == attributeMetadata ) {
+			if ( idAttributes.get( i ).equals( attributeMetadata ) ) {
 				return true;
 			}
 		}
@@ -8,6 +8,7 @@ import java.util.List;
 
 import org.hibernate.boot.model.convert.spi.ConverterRegistry;
 import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.models.categorize.internal.AttributeTable;
 import org.hibernate.boot.models.categorize.internal.StandardPersistentAttributeMemberResolver;
 import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
 import org.hibernate.boot.registry.StandardServiceRegistry;
@@ -16,10 +17,12 @@ import org.hibernate.boot.spi.EffectiveMappingDefaults;
 import org.hibernate.boot.spi.MetadataBuildingContext;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import jakarta.persistence.AccessType;
 import jakarta.persistence.SharedCacheMode;
 
 /// Categorization-time access to bootstrap services and shared state.
@@ -88,4 +91,13 @@ public interface CategorizationContext {
 	Database getDatabase();
 
 	List<JpaEventListener> getDefaultEventListeners();
+
+	/// The attribute table already resolved for the given mapped-superclass and
+	/// access type by an earlier hierarchy, or `null`.
+	AttributeTable findSharedAttributeTable(ClassDetails classDetails, AccessType accessType);
+
+	/// Make an attribute table available to later hierarchies.
+	///
+	/// @see #findSharedAttributeTable
+	void registerSharedAttributeTable(AttributeTable attributeTable);
 }
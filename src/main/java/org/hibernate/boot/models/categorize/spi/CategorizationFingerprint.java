@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.boot.models.source.AvailableResourcesFingerprint;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.MappingDefaults;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.boot.spi.MetadataBuildingOptions;
+
+/// Fingerprint over the inputs which determine the result of
+/// [DomainModelCategorizer#categorize].
+///
+/// Combines the [AvailableResourcesFingerprint] of the classes and mapping
+/// documents with the settings categorization reads:
+///
+/// - the `SharedCacheMode`
+/// - the root [MappingDefaults]
+///
+/// Like the resources fingerprint it is built from, it only covers the classes
+/// listed explicitly; see [AvailableResourcesFingerprint#withResolvedClasses] for
+/// the classes categorization resolves beyond those.
+///
+/// @author Steve Ebersole
+public record CategorizationFingerprint(
+		AvailableResourcesFingerprint resources,
+		Map<String, String> settings) {
+
+	/// Computes the fingerprint of the given inputs, hashing on the calling thread.
+	///
+	/// @param availableResources The resources to categorize
+	/// @param metadataBuildingContext Access to the building options and class loading
+	public static CategorizationFingerprint from(
+			AvailableResources availableResources,
+			MetadataBuildingContext metadataBuildingContext) {
+		return from( availableResources, metadataBuildingContext, null );
+	}
+
+	/// Computes the fingerprint of the given inputs.
+	///
+	/// @param availableResources The resources to categorize
+	/// @param metadataBuildingContext Access to the building options and class loading
+	/// @param hashingExecutor Executor used to hash class files and mapping documents,
+	/// or {@code null} to hash them on the calling thread
+	public static CategorizationFingerprint from(
+			AvailableResources availableResources,
+			MetadataBuildingContext metadataBuildingContext,
+			Executor hashingExecutor) {
+		final AvailableResourcesFingerprint resources = AvailableResourcesFingerprint.from(
+				availableResources,
+				metadataBuildingContext.getBootstrapContext().getServiceRegistry().requireService( ClassLoaderService.class ),
+				hashingExecutor
+		);
+
+		final MetadataBuildingOptions buildingOptions = metadataBuildingContext.getBuildingOptions();
+		final MappingDefaults mappingDefaults = buildingOptions.getMappingDefaults();
+
+		final Map<String, String> settings = new TreeMap<>();
+		settings.put( "shared-cache-mode", String.valueOf( buildingOptions.getSharedCacheMode() ) );
+		settings.put( "defaults.catalog", mappingDefaults.getImplicitCatalogName() );
+		settings.put( "defaults.schema", mappingDefaults.getImplicitSchemaName() );
+		settings.put( "defaults.quote-identifiers", String.valueOf( mappingDefaults.shouldImplicitlyQuoteIdentifiers() ) );
+		settings.put( "defaults.id-column", mappingDefaults.getImplicitIdColumnName() );
+		settings.put( "defaults.discriminator-column", mappingDefaults.getImplicitDiscriminatorColumnName() );
+		settings.put( "defaults.package", mappingDefaults.getImplicitPackageName() );
+		settings.put( "defaults.auto-import", String.valueOf( mappingDefaults.isAutoImportEnabled() ) );
+		settings.put( "defaults.cache-access", String.valueOf( mappingDefaults.getImplicitCacheAccessType() ) );
+
+		return new CategorizationFingerprint( resources, Collections.unmodifiableMap( settings ) );
+	}
+
+	/// Whether this fingerprint describes the same inputs as one taken earlier.
+	///
+	/// Resources whose content could not be hashed never match.
+	public boolean matches(CategorizationFingerprint previous) {
+		return settings.equals( previous.settings )
+				&& resources.diff( previous.resources ).isEmpty();
+	}
+
+	/// The names of the settings whose value differs from the earlier fingerprint.
+	public Set<String> changedSettings(CategorizationFingerprint previous) {
+		return changedSettings( settings, previous.settings );
+	}
+
+	/// The names of the settings whose value differs between the two setting maps.
+	public static Set<String> changedSettings(Map<String, String> settings, Map<String, String> previousSettings) {
+		final Set<String> changed = new TreeSet<>();
+		settings.forEach( (name, value) -> {
+			if ( !previousSettings.containsKey( name ) || !Objects.equals( value, previousSettings.get( name ) ) ) {
+				changed.add( name );
+			}
+		} );
+		previousSettings.keySet().forEach( (name) -> {
+			if ( !settings.containsKey( name ) ) {
+				changed.add( name );
+			}
+		} );
+		return changed;
+	}
+
+	/// A single hash over all inputs, suitable as a cache key.
+	///
+	/// Two fingerprints with equal keys have equal inputs.  Because resources whose
+	/// content could not be read are keyed as such, a key may repeat while
+	/// [#matches] reports a mismatch; caches should check [#matches] when they can.
+	public String toKey() {
+		final StringBuilder content = new StringBuilder();
+		new TreeMap<>( resources.classHashes() ).forEach( (name, hash) -> content.append( "class:" ).append( name ).append( '=' ).append( hash ).append( '\n' ) );
+		new TreeMap<>( resources.mappingHashes() ).forEach( (name, hash) -> content.append( "mapping:" ).append( name ).append( '=' ).append( hash ).append( '\n' ) );
+		new TreeMap<>( settings ).forEach( (name, value) -> content.append( "setting:" ).append( name ).append( '=' ).append( value ).append( '\n' ) );
+		return AvailableResourcesFingerprint.hash( content.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+}
@@ -4,8 +4,7 @@
  */
 package org.hibernate.boot.models.categorize.spi;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.hibernate.boot.internal.RootMappingDefaults;
@@ -67,9 +66,13 @@ public class DomainModelCategorizer {
 				bootstrapContext
 		);
 
-		final List<String> allKnownClassNames = new ArrayList<>( availableXmlMappings.getMappedClasses() );
+		// managed classes and packages given by name are only resolved to ClassDetails
+		// below, after metadata-complete XML has been processed
+		final Set<String> allKnownClassNames = new LinkedHashSet<>( availableXmlMappings.getMappedClasses() );
 		availableResources.managedClassDetails().forEach( (classDetails) -> allKnownClassNames.add( classDetails.getName() ) );
+		allKnownClassNames.addAll( availableResources.managedClassNames() );
 		availableResources.packageDetails().forEach( (packageDetails) -> allKnownClassNames.add( packageDetails.getName() ) );
+		allKnownClassNames.addAll( availableResources.packageNames() );
 
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -105,14 +108,14 @@ public class DomainModelCategorizer {
 				(jaxbRoot, xmlDocumentContext) -> modelCategorizationCollector.apply( jaxbRoot )
 		);
 
+		// the names overlap (XML mapped classes are often also listed as managed classes),
+		// so resolve each name once; the collector additionally ignores a ClassDetails
+		// it has already seen under another name
+		allKnownClassNames.addAll( availableXmlMappings.getMappedNames() );
 		allKnownClassNames.forEach( (className) -> {
 			final ClassDetails classDetails = mutableClassDetailsRegistry.resolveClassDetails( className );
 			modelCategorizationCollector.apply( classDetails );
 		} );
-		availableXmlMappings.getMappedNames().forEach( (className) -> {
-			final ClassDetails classDetails = mutableClassDetailsRegistry.resolveClassDetails( className );
-			modelCategorizationCollector.apply( classDetails );
-		} );
 
 		xmlProcessingResult.apply();
 
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.hibernate.boot.model.NamedEntityGraphDefinition;
+import org.hibernate.models.spi.ClassDetails;
 
 
 /// Persistence-unit scoped registrations collected while categorizing annotations
@@ -27,6 +28,15 @@ public interface GlobalRegistrations {
 	/// Attribute converter registrations.
 	List<ConversionRegistration> getConverterRegistrations();
 
+	/// The auto-applied converter registrations applicable to values of the given
+	/// type - those whose explicit domain type is the type itself, one of its
+	/// superclasses or one of its (inherited) interfaces.  Primitive types match
+	/// registrations for their wrapper.
+	///
+	/// Ordered from the most specific domain type on.  Registrations without an
+	/// explicit domain type are not included.
+	List<ConversionRegistration> getAutoAppliedConverterRegistrations(ClassDetails valueType);
+
 	/// Java type descriptor registrations.
 	List<JavaTypeRegistration> getJavaTypeRegistrations();
 
@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.categorize.spi;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.boot.models.source.AvailableResourcesFingerprint;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.models.spi.ModelsContext;
+
+/// Categorized domain models shared between bootstraps in one JVM.
+///
+/// Bootstraps over the same classes and mapping documents with compatible settings
+/// (read/write splits, per-region persistence units, test suites) categorize
+/// identically.  This registry categorizes once per [CategorizationFingerprint] and
+/// hands the same model to every later bootstrap with a
+/// {@linkplain CategorizationFingerprint#matches matching} fingerprint; only binding
+/// is repeated.
+///
+/// Models are only shared between bootstraps using the same [ClassLoaderService].
+/// A model's class details belong to the classes of the loader it was categorized
+/// with, so deployments with identical class files under different loaders each
+/// categorize their own.
+///
+/// The fingerprint only covers the classes listed explicitly.  Once categorized, a
+/// shared model also records the hashes of every class categorization resolved (see
+/// [AvailableResourcesFingerprint#withResolvedClasses]), and each later request
+/// re-checks them before reusing the model.  An outdated model is replaced.
+///
+/// A shared model belongs to the `ModelsContext` it was categorized against, which
+/// holds its class details along with any XML overlays.  Categorized metadata is
+/// read-only, but binding may resolve additional classes into that context's
+/// registry, so the model and its context are only handed out through
+/// [SharedModel#withExclusiveAccess], one bootstrap at a time.
+///
+/// Each entry keeps the `ModelsContext` of the bootstrap which categorized it
+/// reachable - class details, annotation usages and, through them, the classes and
+/// their class loader - along with the `ClassLoaderService` it is keyed by, until the entry is replaced, evicted, [removed][#remove] or
+/// [cleared][#clear].  Registries living longer than the deployments they serve
+/// should be {@linkplain #SharedCategorizedDomainModels(int, Executor) bounded} or
+/// cleared when a deployment goes away.
+///
+/// @author Steve Ebersole
+public class SharedCategorizedDomainModels {
+	/// A shared model along with the context it belongs to.
+	public static final class SharedModel {
+		private final CategorizedDomainModel categorizedDomainModel;
+		private final ModelsContext modelsContext;
+		private final CategorizationFingerprint fingerprint;
+		private final AvailableResourcesFingerprint resolvedClasses;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private SharedModel(
+				CategorizedDomainModel categorizedDomainModel,
+				ModelsContext modelsContext,
+				CategorizationFingerprint fingerprint,
+				AvailableResourcesFingerprint resolvedClasses) {
+			this.categorizedDomainModel = categorizedDomainModel;
+			this.modelsContext = modelsContext;
+			this.fingerprint = fingerprint;
+			this.resolvedClasses = resolvedClasses;
+		}
+
+		/// The fingerprint the model was categorized for.
+		public CategorizationFingerprint fingerprint() {
+			return fingerprint;
+		}
+
+		/// The fingerprint of every class resolved while categorizing the model.
+		public AvailableResourcesFingerprint resolvedClasses() {
+			return resolvedClasses;
+		}
+
+		/// Run the given work - typically binding - with the model and the
+		/// `ModelsContext` it belongs to.  Concurrent callers run one at a time.
+		///
+		/// Bind against the given context - see
+		/// [org.hibernate.boot.models.bind.spi.BindingContext#getModelsContext()] -
+		/// and do not keep either reference beyond the work.
+		public <T> T withExclusiveAccess(BiFunction<CategorizedDomainModel, ModelsContext, T> work) {
+			lock.lock();
+			try {
+				return work.apply( categorizedDomainModel, modelsContext );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/// Fingerprint key along with the class loading it was taken with, compared by identity.
+	private record Key(String fingerprint, ClassLoaderService classLoading) {
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Key key
+					&& fingerprint.equals( key.fingerprint )
+					&& classLoading == key.classLoading;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fingerprint.hashCode() + System.identityHashCode( classLoading );
+		}
+	}
+
+	private record Entry(CategorizationFingerprint fingerprint, CompletableFuture<SharedModel> model, long sequence) {
+	}
+
+	private final Map<Key, Entry> models = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final int maximumSize;
+	private final Executor hashingExecutor;
+
+	/// An unbounded registry, hashing on the requesting threads.
+	public SharedCategorizedDomainModels() {
+		this( Integer.MAX_VALUE, null );
+	}
+
+	/// @param maximumSize The number of shared models to keep.  Beyond that, the model
+	/// categorized longest ago is dropped.
+	/// @param hashingExecutor Executor used to hash resolved classes, or {@code null} to
+	/// hash them on the requesting thread
+	public SharedCategorizedDomainModels(int maximumSize, Executor hashingExecutor) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive - " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.hashingExecutor = hashingExecutor;
+	}
+
+	/// The shared model for the given inputs, categorizing them if no compatible and
+	/// current model is known yet for the requesting bootstrap's [ClassLoaderService].
+	///
+	/// Concurrent requests for the same inputs categorize once; the others wait for
+	/// that result.  Categorization runs outside the registry's map, so requests for
+	/// other inputs are not held up.
+	///
+	/// @param availableResources The resources to categorize
+	/// @param metadataBuildingContext The requesting bootstrap's building context
+	/// @param fingerprint The fingerprint of the requesting bootstrap's inputs
+	public SharedModel categorize(
+			AvailableResources availableResources,
+			MetadataBuildingContext metadataBuildingContext,
+			CategorizationFingerprint fingerprint) {
+		final ClassLoaderService classLoading = metadataBuildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.requireService( ClassLoaderService.class );
+		final Key key = new Key( fingerprint.toKey(), classLoading );
+
+		while ( true ) {
+			final Entry created = new Entry( fingerprint, new CompletableFuture<>(), sequence.incrementAndGet() );
+			final Entry entry = models.computeIfAbsent( key, (k) -> created );
+			if ( entry == created ) {
+				evictBeyondMaximumSize( key );
+				return categorize( key, created, availableResources, metadataBuildingContext, classLoading );
+			}
+
+			final SharedModel existing;
+			try {
+				existing = entry.model().join();
+			}
+			catch (CompletionException e) {
+				// the categorizing bootstrap failed and reports it; try again
+				models.remove( key, entry );
+				continue;
+			}
+
+			if ( fingerprint.matches( entry.fingerprint() )
+					&& existing.resolvedClasses().isCurrent( classLoading, hashingExecutor ) ) {
+				return existing;
+			}
+			// outdated, or inputs which could not be hashed
+			models.remove( key, entry );
+		}
+	}
+
+	private SharedModel categorize(
+			Key key,
+			Entry entry,
+			AvailableResources availableResources,
+			MetadataBuildingContext metadataBuildingContext,
+			ClassLoaderService classLoading) {
+		try {
+			final CategorizedDomainModel categorizedDomainModel = DomainModelCategorizer.categorize(
+					availableResources,
+					metadataBuildingContext
+			);
+			final ModelsContext modelsContext = metadataBuildingContext.getBootstrapContext().getModelsContext();
+			final SharedModel sharedModel = new SharedModel(
+					categorizedDomainModel,
+					modelsContext,
+					entry.fingerprint(),
+					entry.fingerprint().resources().withResolvedClasses(
+							modelsContext.getClassDetailsRegistry(),
+							classLoading,
+							hashingExecutor
+					)
+			);
+			entry.model().complete( sharedModel );
+			return sharedModel;
+		}
+		catch (RuntimeException | Error e) {
+			models.remove( key, entry );
+			entry.model().completeExceptionally( e );
+			throw e;
+		}
+	}
+
+	private void evictBeyondMaximumSize(Key retainedKey) {
+		while ( models.size() > maximumSize ) {
+			Key oldestKey = null;
+			Entry oldest = null;
+			for ( Map.Entry<Key, Entry> candidate : models.entrySet() ) {
+				if ( !candidate.getKey().equals( retainedKey )
+						&& ( oldest == null || candidate.getValue().sequence() < oldest.sequence() ) ) {
+					oldestKey = candidate.getKey();
+					oldest = candidate.getValue();
+				}
+			}
+			if ( oldest == null ) {
+				return;
+			}
+			models.remove( oldestKey, oldest );
+		}
+	}
+
+	/// Drop the shared models for the given inputs, whichever class loading they were
+	/// categorized with.
+	///
+	/// @return Whether a model was dropped
+	public boolean remove(CategorizationFingerprint fingerprint) {
+		final String fingerprintKey = fingerprint.toKey();
+		return models.keySet().removeIf( (key) -> key.fingerprint().equals( fingerprintKey ) );
+	}
+
+	/// Number of shared models.
+	public int size() {
+		return models.size();
+	}
+
+	/// Drop all shared models.
+	public void clear() {
+		models.clear();
+	}
+}
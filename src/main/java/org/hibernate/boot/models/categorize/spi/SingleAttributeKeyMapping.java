@@ -32,6 +32,6 @@ public interface SingleAttributeKeyMapping extends KeyMapping {
 
 	@Override
 	default boolean contains(AttributeMetadata attributeMetadata) {
-		return attributeMetadata == getAttribute();
+		return getAttribute().equals( attributeMetadata );
 	}
 }
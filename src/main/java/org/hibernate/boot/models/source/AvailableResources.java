@@ -4,19 +4,26 @@
  */
 package org.hibernate.boot.models.source;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.boot.jaxb.Origin;
 import org.hibernate.boot.jaxb.SourceType;
 import org.hibernate.boot.jaxb.internal.MappingBinder;
 import org.hibernate.boot.jaxb.spi.Binding;
 import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.boot.models.source.xml.XmlResourceException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.MetadataBuildingContext;
-import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jpa.HibernatePersistenceConfiguration;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.models.spi.ClassDetails;
@@ -25,11 +32,16 @@ import org.hibernate.models.spi.ClassDetails;
 ///
 /// The record separates the source material into three buckets:
 ///
-/// * class details for explicitly visible managed classes and dynamic model types
-/// * class details for package metadata, represented by {@code package-info}
-///   class details
+/// * managed classes and dynamic model types
+/// * package metadata, represented by {@code package-info} classes
 /// * already-bound XML mapping documents
 ///
+/// Managed classes and packages may be supplied either as already-resolved
+/// class details or as unresolved names.  The {@linkplain #from factory methods}
+/// only collect names; resolving them to class details is left to
+/// {@link org.hibernate.boot.models.categorize.spi.DomainModelCategorizer}, which
+/// does so after XML processing and only for the names it actually visits.
+///
 /// The canonical constructor accepts nullable collections for convenience; the
 /// accessor methods expose them as empty collections.
 ///
@@ -37,59 +49,61 @@ import org.hibernate.models.spi.ClassDetails;
 public record AvailableResources(
 		Collection<ClassDetails> managedClassDetails,
 		Collection<ClassDetails> packageDetails,
+		Collection<String> managedClassNames,
+		Collection<String> packageNames,
 		Collection<Binding<? extends JaxbBindableMappingDescriptor>> xmlMappings) {
 
+	/// Creates available resources from already-resolved class details.
+	///
+	/// @param managedClassDetails Class details for managed classes and dynamic model types
+	/// @param packageDetails Class details for {@code package-info} classes
+	/// @param xmlMappings Already-bound XML mapping documents
+	public AvailableResources(
+			Collection<ClassDetails> managedClassDetails,
+			Collection<ClassDetails> packageDetails,
+			Collection<Binding<? extends JaxbBindableMappingDescriptor>> xmlMappings) {
+		this( managedClassDetails, packageDetails, null, null, xmlMappings );
+	}
+
 	/// Creates available resources from Hibernate's descriptor for persistence-unit
 	/// information.
 	///
-	/// Managed class names are resolved through the model context associated with
-	/// {@code metadataBuildingContext}.  Mapping file names are located through the
-	/// bootstrap class-loading service and bound immediately.
+	/// Managed class names are collected without being resolved.  Mapping file names
+	/// are located through the bootstrap class-loading service and bound immediately.
 	///
 	/// @param persistenceUnitDescriptor The persistence-unit wrapper
 	/// @param metadataBuildingContext The bootstrap model building context
 	public static AvailableResources from(
 			PersistenceUnitDescriptor persistenceUnitDescriptor,
 			MetadataBuildingContext metadataBuildingContext) {
-		var bootstrapContext = metadataBuildingContext.getBootstrapContext();
-		var classLoading = bootstrapContext.getClassLoaderService();
-		var modelsContext = bootstrapContext.getModelsContext();
-		var classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		return from( persistenceUnitDescriptor, metadataBuildingContext, null );
+	}
 
-		var managedClassDetails = new ArrayList<ClassDetails>();
-		var packageDetailsList = new ArrayList<ClassDetails>();
+	/// Creates available resources from Hibernate's descriptor for persistence-unit
+	/// information, reading mapping files through the given executor.
+	///
+	/// @param persistenceUnitDescriptor The persistence-unit wrapper
+	/// @param metadataBuildingContext The bootstrap model building context
+	/// @param resourceLoadingExecutor Executor used to locate and read mapping files, one
+	/// task per file, or {@code null} to read them on the calling thread.  Binding always
+	/// happens on the calling thread.
+	public static AvailableResources from(
+			PersistenceUnitDescriptor persistenceUnitDescriptor,
+			MetadataBuildingContext metadataBuildingContext,
+			Executor resourceLoadingExecutor) {
+		var managedClassNames = new ArrayList<String>();
+		var packageNames = new ArrayList<String>();
 		persistenceUnitDescriptor.getManagedClassNames().forEach( (managedClassName) -> {
-			var classDetails = classDetailsRegistry.resolveClassDetails( managedClassName );
-			if ( StringHelper.isEmpty( classDetails.getClassName() ) ) {
-				managedClassDetails.add( classDetails );
-			}
-			else {
-				applyClassDetails( classDetails, managedClassDetails, packageDetailsList );
-			}
+			applyClassName( managedClassName, managedClassNames, packageNames );
 		} );
 
-		final List<Binding<? extends JaxbBindableMappingDescriptor>> xmlBindings;
-		if ( persistenceUnitDescriptor.getMappingFileNames().isEmpty() ) {
-			xmlBindings = Collections.emptyList();
-		}
-		else {
-			xmlBindings = new ArrayList<>();
-
-			var mappingFileBinder = new MappingBinder( bootstrapContext.getServiceRegistry() );
-			persistenceUnitDescriptor.getMappingFileNames().forEach( (mappingFile) -> {
-				try (var mappingFileStream = classLoading.locateResourceStream( mappingFile )) {
-					xmlBindings.add( mappingFileBinder.bind(
-							mappingFileStream,
-							new Origin( SourceType.RESOURCE, mappingFile )
-					) );
-				}
-				catch (IOException e) {
-					throw new RuntimeException( "Error accessing mapping file - " + mappingFile, e );
-				}
-			} );
-		}
+		final List<Binding<? extends JaxbBindableMappingDescriptor>> xmlBindings = bindMappingFiles(
+				persistenceUnitDescriptor.getMappingFileNames(),
+				metadataBuildingContext,
+				resourceLoadingExecutor
+		);
 
-		return new AvailableResources( managedClassDetails, packageDetailsList, xmlBindings );
+		return new AvailableResources( null, null, managedClassNames, packageNames, xmlBindings );
 	}
 
 	/// Creates available resources from Hibernate's JPA
@@ -103,36 +117,63 @@ public record AvailableResources(
 	public static AvailableResources from(
 			HibernatePersistenceConfiguration persistenceConfiguration,
 			MetadataBuildingContext metadataBuildingContext) {
+		return from( persistenceConfiguration, metadataBuildingContext, null );
+	}
 
-		// todo : I think we need to handle discovery/scanning here
+	/// Creates available resources from Hibernate's JPA
+	/// {@link HibernatePersistenceConfiguration} extension, reading mapping files
+	/// through the given executor.
+	///
+	/// @param persistenceConfiguration The PersistenceConfiguration
+	/// @param metadataBuildingContext The bootstrap model building context
+	/// @param resourceLoadingExecutor Executor used to locate and read mapping files, one
+	/// task per file, or {@code null} to read them on the calling thread.  Binding always
+	/// happens on the calling thread.
+	public static AvailableResources from(
+			HibernatePersistenceConfiguration persistenceConfiguration,
+			MetadataBuildingContext metadataBuildingContext,
+			Executor resourceLoadingExecutor) {
 
-		var bootstrapContext = metadataBuildingContext.getBootstrapContext();
-		var classLoading = bootstrapContext.getClassLoaderService();
-		var modelsContext = bootstrapContext.getModelsContext();
-		var classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		// todo : I think we need to handle discovery/scanning here
 
-		var managedClassDetails = new ArrayList<ClassDetails>();
-		var packageDetailsList = new ArrayList<ClassDetails>();
+		var managedClassNames = new ArrayList<String>();
+		var packageNames = new ArrayList<String>();
 		persistenceConfiguration.managedClasses().forEach( (managedClass) -> {
-			var classDetails = classDetailsRegistry.resolveClassDetails( managedClass.getName() );
-			if ( StringHelper.isEmpty( classDetails.getClassName() ) ) {
-				managedClassDetails.add( classDetails );
-			}
-			else {
-				applyClassDetails( classDetails, managedClassDetails, packageDetailsList );
-			}
+			applyClassName( managedClass.getName(), managedClassNames, packageNames );
 		} );
 
-		final List<Binding<? extends JaxbBindableMappingDescriptor>> xmlBindings;
-		if ( persistenceConfiguration.mappingFiles().isEmpty() ) {
-			xmlBindings = Collections.emptyList();
+		final List<Binding<? extends JaxbBindableMappingDescriptor>> xmlBindings = bindMappingFiles(
+				persistenceConfiguration.mappingFiles(),
+				metadataBuildingContext,
+				resourceLoadingExecutor
+		);
+
+		return new AvailableResources( null, null, managedClassNames, packageNames, xmlBindings );
+	}
+
+	/// Locates and binds the named mapping files, preserving their order.
+	///
+	/// Without an executor each file is located, read and bound on the calling thread.
+	/// With an executor, locating and reading the file content - which is I/O-bound
+	/// for nested jars or network file systems - is submitted to the executor, one task
+	/// per file.  The content is then bound on the calling thread.  On Java 21+ a
+	/// virtual-thread-per-task executor is a natural fit here.
+	private static List<Binding<? extends JaxbBindableMappingDescriptor>> bindMappingFiles(
+			Collection<String> mappingFileNames,
+			MetadataBuildingContext metadataBuildingContext,
+			Executor resourceLoadingExecutor) {
+		if ( mappingFileNames.isEmpty() ) {
+			return Collections.emptyList();
 		}
-		else {
-			xmlBindings = new ArrayList<>();
 
-			var mappingFileBinder = new MappingBinder( bootstrapContext.getServiceRegistry() );
-			persistenceConfiguration.mappingFiles().forEach( (mappingFile) -> {
-				try (var mappingFileStream = classLoading.locateResourceStream( mappingFile )) {
+		var bootstrapContext = metadataBuildingContext.getBootstrapContext();
+		var classLoading = bootstrapContext.getClassLoaderService();
+		var mappingFileBinder = new MappingBinder( bootstrapContext.getServiceRegistry() );
+		final List<Binding<? extends JaxbBindableMappingDescriptor>> xmlBindings = new ArrayList<>( mappingFileNames.size() );
+
+		if ( resourceLoadingExecutor == null ) {
+			mappingFileNames.forEach( (mappingFile) -> {
+				try (var mappingFileStream = locateMappingFile( mappingFile, classLoading )) {
 					xmlBindings.add( mappingFileBinder.bind(
 							mappingFileStream,
 							new Origin( SourceType.RESOURCE, mappingFile )
@@ -142,23 +183,62 @@ public record AvailableResources(
 					throw new RuntimeException( "Error accessing mapping file - " + mappingFile, e );
 				}
 			} );
+			return xmlBindings;
 		}
 
-		return new AvailableResources( managedClassDetails, packageDetailsList, xmlBindings );
+		final List<CompletableFuture<byte[]>> contents = new ArrayList<>( mappingFileNames.size() );
+		mappingFileNames.forEach( (mappingFile) -> contents.add( CompletableFuture.supplyAsync(
+				() -> readMappingFile( mappingFile, classLoading ),
+				resourceLoadingExecutor
+		) ) );
+
+		final Iterator<String> mappingFileItr = mappingFileNames.iterator();
+		for ( CompletableFuture<byte[]> content : contents ) {
+			final String mappingFile = mappingFileItr.next();
+			final byte[] bytes;
+			try {
+				bytes = content.join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof RuntimeException runtimeException ) {
+					throw runtimeException;
+				}
+				throw new RuntimeException( "Error accessing mapping file - " + mappingFile, e.getCause() );
+			}
+			xmlBindings.add( mappingFileBinder.bind(
+					new ByteArrayInputStream( bytes ),
+					new Origin( SourceType.RESOURCE, mappingFile )
+			) );
+		}
+		return xmlBindings;
 	}
 
-	private static void applyClassDetails(
-			ClassDetails classDetails,
-			Collection<ClassDetails> managedClassDetails,
-			Collection<ClassDetails> packageDetails) {
-		if ( StringHelper.isEmpty( classDetails.getClassName() ) ) {
-			managedClassDetails.add( classDetails );
+	private static byte[] readMappingFile(String mappingFile, ClassLoaderService classLoading) {
+		try (var mappingFileStream = locateMappingFile( mappingFile, classLoading )) {
+			return mappingFileStream.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Error accessing mapping file - " + mappingFile, e );
+		}
+	}
+
+	private static InputStream locateMappingFile(String mappingFile, ClassLoaderService classLoading) {
+		final InputStream mappingFileStream = classLoading.locateResourceStream( mappingFile );
+		if ( mappingFileStream == null ) {
+			throw new XmlResourceException( "Could not locate mapping file - " + mappingFile );
 		}
-		else if ( classDetails.getClassName().endsWith( "package-info" ) ) {
-			packageDetails.add( classDetails );
+		return mappingFileStream;
+	}
+
+	private static void applyClassName(
+			String className,
+			Collection<String> managedClassNames,
+			Collection<String> packageNames) {
+		if ( className.endsWith( "package-info" ) ) {
+			packageNames.add( className );
 		}
 		else {
-			managedClassDetails.add( classDetails );
+			managedClassNames.add( className );
 		}
 	}
 
@@ -170,6 +250,14 @@ public record AvailableResources(
 		return packageDetails == null ? Collections.emptyList() : packageDetails;
 	}
 
+	public Collection<String> managedClassNames() {
+		return managedClassNames == null ? Collections.emptyList() : managedClassNames;
+	}
+
+	public Collection<String> packageNames() {
+		return packageNames == null ? Collections.emptyList() : packageNames;
+	}
+
 	public Collection<Binding<? extends JaxbBindableMappingDescriptor>> xmlMappings() {
 		return xmlMappings == null ? Collections.emptyList() : xmlMappings;
 	}
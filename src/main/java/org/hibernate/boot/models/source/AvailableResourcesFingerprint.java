@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.models.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+/// Content hashes for the classes and mapping documents making up
+/// [AvailableResources].
+///
+/// Classes are keyed by class name and hashed from their class-file bytes.  Mapping
+/// documents are keyed by their {@linkplain Origin#getName() origin name} and position
+/// (`name#position`), so distinct documents sharing a name are kept apart, and
+/// hashed from the document content.  Names without a class file - dynamic model
+/// types, or a `package-info` which does not exist - are not recorded; dynamic model
+/// types are covered by the hash of the mapping document declaring them.
+///
+/// [#from] only covers the classes listed explicitly.  Categorization resolves more:
+/// classes mapped only through XML, mapped-superclasses, embeddables, converters and
+/// entity listeners.  [#withResolvedClasses] adds those once categorization is done,
+/// and [#isCurrent] re-checks all recorded classes later.
+///
+/// A `null` mapping hash means the document content could not be read (for example
+/// a document bound from an anonymous stream).  Such an entry never compares as
+/// unchanged.
+///
+/// Two fingerprints can be {@linkplain #diff compared} to find what was added,
+/// removed or changed between boots.
+///
+/// @author Steve Ebersole
+public record AvailableResourcesFingerprint(
+		Map<String, String> classHashes,
+		Map<String, String> mappingHashes) {
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	/// Computes the fingerprint of the given resources on the calling thread.
+	///
+	/// @param availableResources The resources to fingerprint
+	/// @param classLoading Used to locate class files and resource-based mapping documents
+	public static AvailableResourcesFingerprint from(
+			AvailableResources availableResources,
+			ClassLoaderService classLoading) {
+		return from( availableResources, classLoading, null );
+	}
+
+	/// Computes the fingerprint of the given resources.
+	///
+	/// @param availableResources The resources to fingerprint
+	/// @param classLoading Used to locate class files and resource-based mapping documents
+	/// @param hashingExecutor Executor used to read and hash class files and mapping
+	/// documents, one task per entry, or {@code null} to hash them on the calling thread.
+	/// Reading is I/O-bound, so this should not be the common `ForkJoinPool`.
+	public static AvailableResourcesFingerprint from(
+			AvailableResources availableResources,
+			ClassLoaderService classLoading,
+			Executor hashingExecutor) {
+		final Set<String> classNames = new LinkedHashSet<>();
+		availableResources.managedClassDetails().forEach( (classDetails) -> classNames.add( classDetails.getClassName() ) );
+		classNames.addAll( availableResources.managedClassNames() );
+		availableResources.packageDetails().forEach( (packageDetails) -> classNames.add( packageDetails.getClassName() ) );
+		classNames.addAll( availableResources.packageNames() );
+		classNames.removeIf( StringHelper::isEmpty );
+
+		final List<String> classNameList = List.copyOf( classNames );
+		final Map<String, String> classHashes = hashAll(
+				classNameList,
+				classNameList,
+				(className) -> hashApplicationClass( className, classLoading ),
+				hashingExecutor
+		);
+		// names without a class file
+		classHashes.values().removeIf( Objects::isNull );
+
+		final List<Origin> origins = new ArrayList<>( availableResources.xmlMappings().size() );
+		availableResources.xmlMappings().forEach( (binding) -> origins.add( binding.getOrigin() ) );
+		final List<String> mappingKeys = new ArrayList<>( origins.size() );
+		for ( int i = 0; i < origins.size(); i++ ) {
+			mappingKeys.add( origins.get( i ).getName() + "#" + i );
+		}
+		final Map<String, String> mappingHashes = hashAll(
+				mappingKeys,
+				origins,
+				(origin) -> hashMappingDocument( origin, classLoading ),
+				hashingExecutor
+		);
+
+		return new AvailableResourcesFingerprint( classHashes, mappingHashes );
+	}
+
+	/// This fingerprint extended by every class resolved into the given registry,
+	/// typically the registry categorization ran against.
+	///
+	/// Entries without a locatable class file (dynamic model types, primitives,
+	/// arrays) and classes of the Java runtime image are not recorded.  Classes
+	/// already part of this fingerprint keep their hash.
+	///
+	/// @param classDetailsRegistry The registry holding the resolved classes
+	/// @param classLoading Used to locate class files
+	/// @param hashingExecutor Executor used to read and hash class files, or {@code null}
+	/// to hash them on the calling thread
+	public AvailableResourcesFingerprint withResolvedClasses(
+			ClassDetailsRegistry classDetailsRegistry,
+			ClassLoaderService classLoading,
+			Executor hashingExecutor) {
+		final Set<String> classNames = new TreeSet<>();
+		classDetailsRegistry.forEachClassDetails( (classDetails) -> {
+			final String className = classDetails.getClassName();
+			if ( StringHelper.isNotEmpty( className ) && !classHashes().containsKey( className ) ) {
+				classNames.add( className );
+			}
+		} );
+
+		final List<String> classNameList = List.copyOf( classNames );
+		final Map<String, String> resolvedHashes = hashAll(
+				classNameList,
+				classNameList,
+				(className) -> hashApplicationClass( className, classLoading ),
+				hashingExecutor
+		);
+
+		final Map<String, String> combined = new TreeMap<>( classHashes() );
+		resolvedHashes.forEach( (className, hash) -> {
+			if ( hash != null ) {
+				combined.put( className, hash );
+			}
+		} );
+		return new AvailableResourcesFingerprint( combined, mappingHashes() );
+	}
+
+	/// Whether every class recorded in this fingerprint still has the recorded content.
+	///
+	/// Mapping documents are not re-read; compare a fresh fingerprint for those.
+	///
+	/// @param classLoading Used to locate class files
+	/// @param hashingExecutor Executor used to read and hash class files, or {@code null}
+	/// to hash them on the calling thread
+	public boolean isCurrent(ClassLoaderService classLoading, Executor hashingExecutor) {
+		final List<String> classNameList = List.copyOf( classHashes().keySet() );
+		final Map<String, String> currentHashes = hashAll(
+				classNameList,
+				classNameList,
+				(className) -> hashResource( classFileName( className ), classLoading ),
+				hashingExecutor
+		);
+		final Set<String> changed = new TreeSet<>();
+		compare( classHashes(), currentHashes, new TreeSet<>(), new TreeSet<>(), changed );
+		return changed.isEmpty();
+	}
+
+	private static String classFileName(String className) {
+		return className.replace( '.', '/' ) + ".class";
+	}
+
+	/// The hash of the named class, or `null` if it has no class file outside the
+	/// Java runtime image.
+	private static String hashApplicationClass(String className, ClassLoaderService classLoading) {
+		final URL classFile = classLoading.locateResource( classFileName( className ) );
+		if ( classFile == null || "jrt".equals( classFile.getProtocol() ) ) {
+			return null;
+		}
+		try (InputStream stream = classFile.openStream()) {
+			return hash( stream.readAllBytes() );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Error reading class file for fingerprint - " + className, e );
+		}
+	}
+
+	/// Hashes the sources, keeping the results keyed and sorted by name.
+	/// Hashes may be `null`, which rules out the concurrent map collectors.
+	private static <S> Map<String, String> hashAll(
+			List<String> names,
+			List<S> sources,
+			Function<S, String> hasher,
+			Executor hashingExecutor) {
+		final String[] hashes = new String[sources.size()];
+		if ( hashingExecutor == null ) {
+			for ( int i = 0; i < hashes.length; i++ ) {
+				hashes[i] = hasher.apply( sources.get( i ) );
+			}
+		}
+		else {
+			final List<CompletableFuture<String>> futures = new ArrayList<>( hashes.length );
+			sources.forEach( (source) -> futures.add( CompletableFuture.supplyAsync(
+					() -> hasher.apply( source ),
+					hashingExecutor
+			) ) );
+			for ( int i = 0; i < hashes.length; i++ ) {
+				try {
+					hashes[i] = futures.get( i ).join();
+				}
+				catch (CompletionException e) {
+					if ( e.getCause() instanceof RuntimeException runtimeException ) {
+						throw runtimeException;
+					}
+					throw e;
+				}
+			}
+		}
+
+		final Map<String, String> result = new TreeMap<>();
+		for ( int i = 0; i < hashes.length; i++ ) {
+			result.put( names.get( i ), hashes[i] );
+		}
+		return result;
+	}
+
+	private static String hashMappingDocument(Origin origin, ClassLoaderService classLoading) {
+		return switch ( origin.getType() ) {
+			case RESOURCE -> hashResource( origin.getName(), classLoading );
+			case FILE -> hashFile( Path.of( origin.getName() ) );
+			default -> null;
+		};
+	}
+
+	private static String hashResource(String resourceName, ClassLoaderService classLoading) {
+		try (InputStream stream = classLoading.locateResourceStream( resourceName )) {
+			return stream == null ? null : hash( stream.readAllBytes() );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Error reading resource for fingerprint - " + resourceName, e );
+		}
+	}
+
+	private static String hashFile(Path path) {
+		if ( !Files.isRegularFile( path ) ) {
+			return null;
+		}
+		try {
+			return hash( Files.readAllBytes( path ) );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( "Error reading file for fingerprint - " + path, e );
+		}
+	}
+
+	/// Hex-encoded SHA-256 digest of the given content, the hash format used by fingerprints.
+	public static String hash(byte[] content) {
+		try {
+			return HexFormat.of().formatHex( MessageDigest.getInstance( HASH_ALGORITHM ).digest( content ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( "Required message digest algorithm not available - " + HASH_ALGORITHM, e );
+		}
+	}
+
+	public Map<String, String> classHashes() {
+		return classHashes == null ? Collections.emptyMap() : classHashes;
+	}
+
+	public Map<String, String> mappingHashes() {
+		return mappingHashes == null ? Collections.emptyMap() : mappingHashes;
+	}
+
+	/// Compares this fingerprint against one taken on a previous boot.
+	///
+	/// @param previous The earlier fingerprint
+	///
+	/// @return What was added, removed or changed going from `previous` to this fingerprint
+	public Diff diff(AvailableResourcesFingerprint previous) {
+		final Set<String> addedClasses = new TreeSet<>();
+		final Set<String> removedClasses = new TreeSet<>();
+		final Set<String> changedClasses = new TreeSet<>();
+		compare( previous.classHashes(), classHashes(), addedClasses, removedClasses, changedClasses );
+
+		final Set<String> addedDocuments = new TreeSet<>();
+		final Set<String> removedDocuments = new TreeSet<>();
+		final Set<String> changedDocuments = new TreeSet<>();
+		compare( previous.mappingHashes(), mappingHashes(), addedDocuments, removedDocuments, changedDocuments );
+
+		return new Diff(
+				addedClasses,
+				removedClasses,
+				changedClasses,
+				addedDocuments,
+				removedDocuments,
+				changedDocuments
+		);
+	}
+
+	private static void compare(
+			Map<String, String> previous,
+			Map<String, String> current,
+			Set<String> added,
+			Set<String> removed,
+			Set<String> changed) {
+		current.forEach( (name, hash) -> {
+			if ( !previous.containsKey( name ) ) {
+				added.add( name );
+			}
+			else if ( hash == null || !Objects.equals( hash, previous.get( name ) ) ) {
+				changed.add( name );
+			}
+		} );
+		previous.keySet().forEach( (name) -> {
+			if ( !current.containsKey( name ) ) {
+				removed.add( name );
+			}
+		} );
+	}
+
+	/// The difference between two [AvailableResourcesFingerprint]s.
+	///
+	/// Class entries are class names; document entries are mapping-document origin names
+	/// suffixed with the document's position (`name#position`).
+	public record Diff(
+			Set<String> addedClasses,
+			Set<String> removedClasses,
+			Set<String> changedClasses,
+			Set<String> addedDocuments,
+			Set<String> removedDocuments,
+			Set<String> changedDocuments) {
+
+		/// Whether nothing was added, removed or changed.
+		public boolean isEmpty() {
+			return addedClasses.isEmpty()
+					&& removedClasses.isEmpty()
+					&& changedClasses.isEmpty()
+					&& addedDocuments.isEmpty()
+					&& removedDocuments.isEmpty()
+					&& changedDocuments.isEmpty();
+		}
+	}
+}
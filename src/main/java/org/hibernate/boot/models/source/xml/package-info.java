@@ -24,6 +24,12 @@
  *         applying overlay/override XML through an upstream-backed adapter.
  *     </li>
  * </ol>
+ * <p>
+ * Metadata-complete documents are processed from their JAXB representation as well.
+ * The upstream processor builds the {@code ClassDetails} for metadata-complete types
+ * directly from that JAXB tree, so there is no streaming (StAX) path which could feed
+ * categorization without first materializing the document.  The categorization
+ * collector itself only reads the top-level registration lists of each document.
  *
  * @author Steve Ebersole
  */
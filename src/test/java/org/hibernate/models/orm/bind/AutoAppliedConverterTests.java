@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class AutoAppliedConverterTests {
+	@Test
+	void testAutoApplyByDomainType(ServiceRegistryScope scope) {
+		BindingTestingHelper.checkDomainModel(
+				(context) -> {
+					final PersistentClass entityBinding = context.getMetadataCollector()
+							.getEntityBinding( Shipment.class.getName() );
+
+					// exact domain type
+					final BasicValue weight = (BasicValue) entityBinding.getProperty( "weight" ).getValue();
+					assertThat( weight.getJpaAttributeConverterDescriptor().getAttributeConverterClass() )
+							.isEqualTo( WeightConverter.class );
+
+					// through an interface of the value type
+					final BasicValue country = (BasicValue) entityBinding.getProperty( "country" ).getValue();
+					assertThat( country.getJpaAttributeConverterDescriptor().getAttributeConverterClass() )
+							.isEqualTo( CodeConverter.class );
+
+					final BasicValue disabled = (BasicValue) entityBinding.getProperty( "unconverted" ).getValue();
+					assertThat( disabled.getJpaAttributeConverterDescriptor() ).isNull();
+
+					final BasicValue reference = (BasicValue) entityBinding.getProperty( "reference" ).getValue();
+					assertThat( reference.getJpaAttributeConverterDescriptor() ).isNull();
+				},
+				scope.getRegistry(),
+				Shipment.class,
+				WeightConverter.class,
+				CodeConverter.class
+		);
+	}
+
+	public interface Code {
+		String code();
+	}
+
+	public record Country(String code) implements Code {
+	}
+
+	public record Weight(int grams) {
+	}
+
+	@Converter(autoApply = true)
+	public static class WeightConverter implements AttributeConverter<Weight, Integer> {
+		@Override
+		public Integer convertToDatabaseColumn(Weight attribute) {
+			return attribute == null ? null : attribute.grams();
+		}
+
+		@Override
+		public Weight convertToEntityAttribute(Integer dbData) {
+			return dbData == null ? null : new Weight( dbData );
+		}
+	}
+
+	@Converter(autoApply = true)
+	public static class CodeConverter implements AttributeConverter<Code, String> {
+		@Override
+		public String convertToDatabaseColumn(Code attribute) {
+			return attribute == null ? null : attribute.code();
+		}
+
+		@Override
+		public Code convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : new Country( dbData );
+		}
+	}
+
+	@Entity(name = "Shipment")
+	public static class Shipment {
+		@Id
+		private Integer id;
+		private Weight weight;
+		private Country country;
+		@Convert(disableConversion = true)
+		private Weight unconverted;
+		private String reference;
+	}
+}
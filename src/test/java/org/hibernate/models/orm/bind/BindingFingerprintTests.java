@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.internal.BindingOptionsImpl;
+import org.hibernate.boot.models.bind.spi.BindingFingerprint;
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class BindingFingerprintTests {
+	@Test
+	@ServiceRegistry
+	void fingerprintCoversResourcesAndSettings(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( SimpleEntity.class );
+		final AvailableResources availableResources = AvailableResources.from( config, buildingContext );
+
+		final BindingFingerprint first = BindingFingerprint.from(
+				availableResources,
+				new BindingOptionsImpl( null, null ),
+				buildingContext
+		);
+		final BindingFingerprint second = BindingFingerprint.from(
+				availableResources,
+				new BindingOptionsImpl( null, null ),
+				buildingContext
+		);
+		assertThat( first.resources().classHashes() ).containsOnlyKeys( SimpleEntity.class.getName() );
+		assertThat( second.matches( first ) ).isTrue();
+		assertThat( second.toKey() ).isEqualTo( first.toKey() );
+
+		final BindingFingerprint otherSchema = BindingFingerprint.from(
+				availableResources,
+				new BindingOptionsImpl( null, Identifier.toIdentifier( "other" ) ),
+				buildingContext
+		);
+		assertThat( otherSchema.matches( first ) ).isFalse();
+		assertThat( otherSchema.changedSettings( first ) ).containsExactly( "binding.default-schema" );
+		assertThat( otherSchema.toKey() ).isNotEqualTo( first.toKey() );
+
+		final Dialect dialect = registryScope.getRegistry().requireService( JdbcServices.class ).getDialect();
+		assertThat( first.settings() )
+				.containsEntry( "jdbc.dialect", dialect.getClass().getName() )
+				.containsEntry( "jdbc.dialect-version", String.valueOf( dialect.getVersion() ) )
+				.containsEntry( "identifiers.auto-quote-keywords", "false" );
+	}
+
+	@Test
+	@ServiceRegistry
+	void hashingThroughExecutorMatchesSerialHashing(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( SimpleEntity.class );
+		final AvailableResources availableResources = AvailableResources.from( config, buildingContext );
+
+		final BindingFingerprint serial = BindingFingerprint.from(
+				availableResources,
+				new BindingOptionsImpl( null, null ),
+				buildingContext
+		);
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final BindingFingerprint executed = BindingFingerprint.from(
+					availableResources,
+					new BindingOptionsImpl( null, null ),
+					buildingContext,
+					executor
+			);
+			assertThat( executed.matches( serial ) ).isTrue();
+			assertThat( executed.toKey() ).isEqualTo( serial.toKey() );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@ServiceRegistry( settingProviders = @SettingProvider(
+			settingName = AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+			provider = CustomNamingStrategyProvider.class
+	) )
+	void customNamingStrategiesNeverMatch(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( SimpleEntity.class );
+		final AvailableResources availableResources = AvailableResources.from( config, buildingContext );
+
+		final BindingFingerprint first = BindingFingerprint.from( availableResources, new BindingOptionsImpl( null, null ), buildingContext );
+		final BindingFingerprint second = BindingFingerprint.from( availableResources, new BindingOptionsImpl( null, null ), buildingContext );
+
+		assertThat( first.settings().get( "naming.physical" ) ).startsWith( CustomNamingStrategy.class.getName() );
+		assertThat( second.matches( first ) ).isFalse();
+		assertThat( second.changedSettings( first ) ).containsExactly( "naming.physical" );
+		assertThat( second.toKey() ).isNotEqualTo( first.toKey() );
+	}
+}
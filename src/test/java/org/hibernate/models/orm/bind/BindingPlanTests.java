@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.models.bind.internal.BindingPlan;
+import org.hibernate.boot.models.bind.internal.binders.ManagedTypeBinder;
+import org.hibernate.boot.models.bind.internal.binders.TypeBindingPhase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class BindingPlanTests {
+	@Test
+	void participantsAreCompiledPerStep() {
+		final List<String> calls = new ArrayList<>();
+		final TablesBinder first = new TablesBinder( "first", calls );
+		final SkeletonBinder skeleton = new SkeletonBinder();
+		final TablesAndKeysBinder second = new TablesAndKeysBinder( "second", calls );
+
+		final BindingPlan plan = BindingPlan.compile( List.of( first, skeleton, second ) );
+
+		assertThat( plan.getStepPlans() ).hasSameSizeAs( BindingPlan.TYPE_BINDING_STEPS );
+		for ( int s = 0; s < plan.getStepPlans().size(); s++ ) {
+			assertThat( plan.getStepPlans().get( s ).getStep() ).isSameAs( BindingPlan.TYPE_BINDING_STEPS.get( s ) );
+		}
+		assertThat( participantCount( plan, TypeBindingPhase.Tables.class ) ).isEqualTo( 2 );
+		assertThat( participantCount( plan, TypeBindingPhase.TableKeys.class ) ).isEqualTo( 1 );
+		assertThat( participantCount( plan, TypeBindingPhase.Members.class ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	void eachStepRunsForAllBindersBeforeTheNext() {
+		final List<String> calls = new ArrayList<>();
+		final TablesAndKeysBinder first = new TablesAndKeysBinder( "first", calls );
+		final TablesBinder second = new TablesBinder( "second", calls );
+		final TablesAndKeysBinder third = new TablesAndKeysBinder( "third", calls );
+
+		final BindingPlan plan = BindingPlan.compile( List.of( first, second, third ) );
+
+		// as BindingCoordinator runs the plan
+		for ( BindingPlan.StepPlan<?> stepPlan : plan.getStepPlans() ) {
+			for ( int i = 0; i < stepPlan.size(); i++ ) {
+				stepPlan.run( i );
+			}
+		}
+
+		assertThat( calls ).containsExactly(
+				"first:tables",
+				"second:tables",
+				"third:tables",
+				"first:keys",
+				"third:keys"
+		);
+	}
+
+	private static int participantCount(BindingPlan plan, Class<?> phaseType) {
+		for ( BindingPlan.StepPlan<?> stepPlan : plan.getStepPlans() ) {
+			if ( stepPlan.getStep().phaseType() == phaseType ) {
+				return stepPlan.size();
+			}
+		}
+		throw new IllegalArgumentException( "No step for " + phaseType.getName() );
+	}
+
+	private static class SkeletonBinder extends ManagedTypeBinder implements TypeBindingPhase.TypeSkeleton {
+		private SkeletonBinder() {
+			super( null, null, null, null );
+		}
+
+		@Override
+		public void bindTypeSkeleton() {
+		}
+	}
+
+	private static class TablesBinder extends ManagedTypeBinder implements TypeBindingPhase.Tables {
+		protected final String name;
+		protected final List<String> calls;
+
+		private TablesBinder(String name, List<String> calls) {
+			super( null, null, null, null );
+			this.name = name;
+			this.calls = calls;
+		}
+
+		@Override
+		public void bindTables() {
+			calls.add( name + ":tables" );
+		}
+	}
+
+	private static class TablesAndKeysBinder extends TablesBinder implements TypeBindingPhase.TableKeys {
+		private TablesAndKeysBinder(String name, List<String> calls) {
+			super( name, calls );
+		}
+
+		@Override
+		public void bindTableKeys() {
+			calls.add( name + ":keys" );
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.models.bind.internal.BindingStateImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class BindingStateReleaseTests {
+	@Test
+	void releaseDropsBindingState(ServiceRegistryScope scope) {
+		BindingTestingHelper.checkDomainModel(
+				(context) -> {
+					final BindingStateImpl bindingState = context.getBindingState();
+					assertThat( collectState( bindingState ) ).isNotEmpty();
+					assertThat( bindingState.getTableCount() ).isGreaterThan( 0 );
+
+					bindingState.release();
+
+					assertReleased( bindingState );
+					// the mapping model itself stays
+					assertThat( context.getMetadataCollector().getEntityBinding( Child.class.getName() ) ).isNotNull();
+				},
+				scope.getRegistry(),
+				Parent.class,
+				Child.class
+		);
+	}
+
+	@Test
+	void coordinatorReleasesBindingState(ServiceRegistryScope scope) {
+		final BindingTestingHelper.DomainModelCheckContext context = BindingTestingHelper.coordinateBinding(
+				scope.getRegistry(),
+				Parent.class,
+				Child.class
+		);
+
+		assertReleased( context.getBindingState() );
+		assertThat( context.getMetadataCollector().getEntityBinding( Parent.class.getName() ) ).isNotNull();
+		assertThat( context.getMetadataCollector().getEntityBinding( Child.class.getName() ) ).isNotNull();
+	}
+
+	private static void assertReleased(BindingStateImpl bindingState) {
+		assertThat( bindingState.getTableCount() ).isEqualTo( 0 );
+		assertThat( bindingState.getNamePool().size() ).isEqualTo( 0 );
+		assertThat( collectState( bindingState ) ).isEmpty();
+	}
+
+	private static List<Object> collectState(BindingStateImpl bindingState) {
+		final List<Object> state = new ArrayList<>();
+		bindingState.forEachType( (name, binder) -> state.add( binder ) );
+		bindingState.forEachTable( (name, table) -> state.add( table ) );
+		bindingState.forEachCollectionTableBinding( state::add );
+		bindingState.forEachPropertyMapKeyBinding( state::add );
+		bindingState.forEachAssociationIdentifierBinding( state::add );
+		bindingState.forEachAssociationTargetBinding( state::add );
+		bindingState.forEachDerivedIdentifierBinding( state::add );
+		bindingState.forEachAggregateComponentBinding( state::add );
+		bindingState.forEachInversePluralAssociationBinding( state::add );
+		bindingState.forEachInverseToOneAssociationBinding( state::add );
+		bindingState.forEachForeignKeyBinding( state::add );
+		bindingState.forEachTableForeignKeyBinding( state::add );
+		return state;
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Parent parent;
+	}
+}
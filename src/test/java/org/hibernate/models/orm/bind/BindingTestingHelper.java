@@ -4,6 +4,7 @@
  */
 package org.hibernate.models.orm.bind;
 
+import java.util.Collection;
 import java.util.Set;
 
 import org.hibernate.boot.internal.BootstrapContextImpl;
@@ -33,6 +34,66 @@ public class BindingTestingHelper {
 			DomainModelCheck check,
 			StandardServiceRegistry serviceRegistry,
 			Class<?>... domainClasses) {
+		checkDomainModel( check, serviceRegistry, null, domainClasses );
+	}
+
+	public static void checkDomainModel(
+			DomainModelCheck check,
+			StandardServiceRegistry serviceRegistry,
+			Collection<String> requestedClassNames,
+			Class<?>... domainClasses) {
+		final BindingSetup setup = prepareBinding( serviceRegistry, domainClasses );
+
+		// bind without releasing, so checks can inspect the binding state
+		new BindingCoordinator(
+				setup.categorizedDomainModel(),
+				setup.bindingState(),
+				setup.bindingOptions(),
+				setup.bindingContext(),
+				requestedClassNames
+		).coordinateBinding();
+
+		try {
+			check.checkDomainModel( setup );
+		}
+		finally {
+			setup.bindingState().release();
+		}
+	}
+
+	/// Binds through the static entry point of [BindingCoordinator], which releases
+	/// the binding state once binding completes.
+	public static DomainModelCheckContext coordinateBinding(
+			StandardServiceRegistry serviceRegistry,
+			Class<?>... domainClasses) {
+		final BindingSetup setup = prepareBinding( serviceRegistry, domainClasses );
+		BindingCoordinator.coordinateBinding(
+				setup.categorizedDomainModel(),
+				setup.bindingState(),
+				setup.bindingOptions(),
+				setup.bindingContext()
+		);
+		return setup;
+	}
+
+	private record BindingSetup(
+			InFlightMetadataCollectorImpl metadataCollector,
+			CategorizedDomainModel categorizedDomainModel,
+			BindingStateImpl bindingState,
+			BindingOptionsImpl bindingOptions,
+			BindingContextImpl bindingContext) implements DomainModelCheckContext {
+		@Override
+		public InFlightMetadataCollectorImpl getMetadataCollector() {
+			return metadataCollector;
+		}
+
+		@Override
+		public BindingStateImpl getBindingState() {
+			return bindingState;
+		}
+	}
+
+	private static BindingSetup prepareBinding(StandardServiceRegistry serviceRegistry, Class<?>... domainClasses) {
 		final BootstrapContextImpl bootstrapContext = buildBootstrapContext(
 				serviceRegistry );
 
@@ -56,31 +117,13 @@ public class BindingTestingHelper {
 				availableResources,
 				metadataBuildingContext
 		);
-		final BindingStateImpl bindingState = new BindingStateImpl( metadataBuildingContext );
-		final BindingOptionsImpl bindingOptions = new BindingOptionsImpl( metadataBuildingContext );
-		final BindingContextImpl bindingContext = new BindingContextImpl(
-				categorizedDomainModel,
-				bootstrapContext
-		);
-
-		BindingCoordinator.coordinateBinding(
+		return new BindingSetup(
+				metadataCollector,
 				categorizedDomainModel,
-				bindingState,
-				bindingOptions,
-				bindingContext
+				new BindingStateImpl( metadataBuildingContext ),
+				new BindingOptionsImpl( metadataBuildingContext ),
+				new BindingContextImpl( categorizedDomainModel, bootstrapContext )
 		);
-
-		check.checkDomainModel( new DomainModelCheckContext() {
-			@Override
-			public InFlightMetadataCollectorImpl getMetadataCollector() {
-				return metadataCollector;
-			}
-
-			@Override
-			public BindingStateImpl getBindingState() {
-				return bindingState;
-			}
-		} );
 	}
 
 	public interface DomainModelCheckContext {
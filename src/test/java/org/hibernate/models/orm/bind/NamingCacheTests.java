@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.models.bind.internal.BindingOptionsImpl;
+import org.hibernate.boot.models.bind.internal.NamePool;
+import org.hibernate.boot.models.bind.internal.NamingCache;
+import org.hibernate.boot.models.bind.spi.QuotedIdentifierTarget;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class NamingCacheTests {
+	@Test
+	void physicalNamesAreResolvedOncePerLogicalName(ServiceRegistryScope registryScope) {
+		final CountingNamingStrategy namingStrategy = new CountingNamingStrategy();
+		final NamingCache namingCache = new NamingCache(
+				new BindingOptionsImpl( null, null ),
+				registryScope.getRegistry().requireService( JdbcEnvironment.class ),
+				namingStrategy,
+				new NamePool()
+		);
+
+		final Identifier first = namingCache.toPhysicalTableName( Identifier.toIdentifier( "orders" ) );
+		final Identifier second = namingCache.toPhysicalTableName( Identifier.toIdentifier( "orders" ) );
+		assertThat( second ).isSameAs( first );
+		assertThat( first.getText() ).isEqualTo( "ORDERS" );
+
+		// unquoted identifiers compare case-insensitively, but naming strategies need not
+		namingCache.toPhysicalTableName( Identifier.toIdentifier( "Orders" ) );
+		// every table of a schema asks for the schema's physical name
+		final Identifier schema = namingCache.toPhysicalSchemaName( Identifier.toIdentifier( "orders" ) );
+		assertThat( namingCache.toPhysicalSchemaName( Identifier.toIdentifier( "orders" ) ) ).isSameAs( schema );
+
+		assertThat( namingStrategy.calls ).containsExactly( "table:orders", "table:Orders", "schema:orders" );
+	}
+
+	@Test
+	void identifiersAreShared(ServiceRegistryScope registryScope) {
+		final NamingCache namingCache = new NamingCache(
+				new BindingOptionsImpl( null, null ),
+				registryScope.getRegistry().requireService( JdbcEnvironment.class ),
+				new CustomNamingStrategy(),
+				new NamePool()
+		);
+
+		final Identifier tableName = namingCache.toIdentifier( "orders", QuotedIdentifierTarget.TABLE_NAME );
+		assertThat( namingCache.toIdentifier( "orders", QuotedIdentifierTarget.TABLE_NAME ) ).isSameAs( tableName );
+		// identifiers equal in text and quoting share one instance through the pool
+		assertThat( namingCache.toIdentifier( "orders", QuotedIdentifierTarget.SCHEMA_NAME ) ).isSameAs( tableName );
+	}
+
+	@Test
+	void namePoolSharesInstancesUntilReleased() {
+		final NamePool namePool = new NamePool();
+
+		final String first = namePool.intern( new StringBuilder( "tenant_id" ).toString() );
+		final String second = namePool.intern( new StringBuilder( "tenant_id" ).toString() );
+		assertThat( second ).isSameAs( first );
+
+		final Identifier unquoted = namePool.intern( Identifier.toIdentifier( "Orders" ) );
+		assertThat( namePool.intern( Identifier.toIdentifier( "Orders" ) ) ).isSameAs( unquoted );
+		assertThat( namePool.intern( Identifier.toIdentifier( "orders" ) ) ).isNotSameAs( unquoted );
+		assertThat( namePool.size() ).isEqualTo( 3 );
+
+		namePool.release();
+		final String released = new StringBuilder( "tenant_id" ).toString();
+		assertThat( namePool.intern( released ) ).isSameAs( released );
+		assertThat( namePool.size() ).isEqualTo( 0 );
+	}
+
+	private static class CountingNamingStrategy extends CustomNamingStrategy {
+		private final List<String> calls = new ArrayList<>();
+
+		@Override
+		public Identifier toPhysicalSchemaName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+			calls.add( "schema:" + logicalName.getText() );
+			return super.toPhysicalSchemaName( logicalName, jdbcEnvironment );
+		}
+
+		@Override
+		public Identifier toPhysicalTableName(Identifier logicalName, JdbcEnvironment jdbcEnvironment) {
+			calls.add( "table:" + logicalName.getText() );
+			return super.toPhysicalTableName( logicalName, jdbcEnvironment );
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class RequestedBindingTests {
+	@Test
+	void onlyRequiredHierarchiesAreBound(ServiceRegistryScope scope) {
+		BindingTestingHelper.checkDomainModel(
+				(context) -> {
+					final var metadataCollector = context.getMetadataCollector();
+					assertThat( metadataCollector.getEntityBinding( Book.class.getName() ) ).isNotNull();
+					// Book -> Author -> Publisher
+					assertThat( metadataCollector.getEntityBinding( Author.class.getName() ) ).isNotNull();
+					assertThat( metadataCollector.getEntityBinding( Publisher.class.getName() ) ).isNotNull();
+					assertThat( metadataCollector.getEntityBinding( Isolated.class.getName() ) ).isNull();
+				},
+				scope.getRegistry(),
+				Set.of( Book.class.getName() ),
+				Author.class,
+				Book.class,
+				Publisher.class,
+				Isolated.class
+		);
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "author")
+		private List<Book> books;
+		@ManyToOne
+		private Publisher publisher;
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Author author;
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+	}
+
+	@Entity(name = "Isolated")
+	public static class Isolated {
+		@Id
+		private Integer id;
+	}
+}
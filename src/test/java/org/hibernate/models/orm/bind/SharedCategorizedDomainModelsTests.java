@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.bind;
+
+import org.hibernate.boot.models.bind.internal.BindingContextImpl;
+import org.hibernate.boot.models.categorize.spi.CategorizationFingerprint;
+import org.hibernate.boot.models.categorize.spi.SharedCategorizedDomainModels;
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class SharedCategorizedDomainModelsTests {
+	@Test
+	void compatibleBootstrapsShareOneModel(ServiceRegistryScope registryScope) {
+		final SharedCategorizedDomainModels sharedModels = new SharedCategorizedDomainModels();
+
+		final MetadataBuildingContext firstContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		final SharedCategorizedDomainModels.SharedModel first = categorize( sharedModels, firstContext, SimpleEntity.class );
+
+		final MetadataBuildingContext secondContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		final SharedCategorizedDomainModels.SharedModel second = categorize( sharedModels, secondContext, SimpleEntity.class );
+
+		assertThat( second ).isSameAs( first );
+		assertThat( sharedModels.size() ).isEqualTo( 1 );
+		// the classes resolved while categorizing are recorded for later freshness checks
+		assertThat( first.resolvedClasses().classHashes() ).containsKey( SimpleEntity.class.getName() );
+
+		// the second bootstrap binds against the context the shared model belongs to
+		second.withExclusiveAccess( (categorizedDomainModel, modelsContext) -> {
+			assertThat( modelsContext ).isSameAs( firstContext.getBootstrapContext().getModelsContext() );
+			final BindingContextImpl bindingContext = new BindingContextImpl(
+					categorizedDomainModel,
+					modelsContext,
+					secondContext.getBootstrapContext()
+			);
+			assertThat( bindingContext.getClassDetailsRegistry() )
+					.isSameAs( firstContext.getBootstrapContext().getModelsContext().getClassDetailsRegistry() );
+			return null;
+		} );
+
+		final MetadataBuildingContext thirdContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		final SharedCategorizedDomainModels.SharedModel third = categorize( sharedModels, thirdContext, SimpleEntity.class, Other.class );
+		assertThat( third ).isNotSameAs( first );
+		third.withExclusiveAccess( (categorizedDomainModel, modelsContext) -> {
+			assertThat( categorizedDomainModel.getEntityHierarchies() ).hasSize( 2 );
+			return null;
+		} );
+		assertThat( sharedModels.size() ).isEqualTo( 2 );
+
+		assertThat( sharedModels.remove( third.fingerprint() ) ).isTrue();
+		assertThat( sharedModels.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void boundedRegistryDropsOldestModel(ServiceRegistryScope registryScope) {
+		final SharedCategorizedDomainModels sharedModels = new SharedCategorizedDomainModels( 1, null );
+
+		final MetadataBuildingContext firstContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		final SharedCategorizedDomainModels.SharedModel first = categorize( sharedModels, firstContext, SimpleEntity.class );
+
+		final MetadataBuildingContext secondContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		categorize( sharedModels, secondContext, SimpleEntity.class, Other.class );
+		assertThat( sharedModels.size() ).isEqualTo( 1 );
+
+		final MetadataBuildingContext thirdContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		assertThat( categorize( sharedModels, thirdContext, SimpleEntity.class ) ).isNotSameAs( first );
+	}
+
+	@Test
+	void modelsAreNotSharedAcrossClassLoading(ServiceRegistryScope registryScope) {
+		final SharedCategorizedDomainModels sharedModels = new SharedCategorizedDomainModels();
+
+		final MetadataBuildingContext firstContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		final SharedCategorizedDomainModels.SharedModel first = categorize( sharedModels, firstContext, SimpleEntity.class );
+
+		final StandardServiceRegistry otherRegistry = new StandardServiceRegistryBuilder().build();
+		try {
+			final MetadataBuildingContext otherContext = new MetadataBuildingContextTestingImpl( otherRegistry );
+			final SharedCategorizedDomainModels.SharedModel other = categorize( sharedModels, otherContext, SimpleEntity.class );
+
+			assertThat( other.fingerprint().toKey() ).isEqualTo( first.fingerprint().toKey() );
+			assertThat( other ).isNotSameAs( first );
+			assertThat( sharedModels.size() ).isEqualTo( 2 );
+
+			assertThat( sharedModels.remove( first.fingerprint() ) ).isTrue();
+			assertThat( sharedModels.size() ).isEqualTo( 0 );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( otherRegistry );
+		}
+	}
+
+	private static SharedCategorizedDomainModels.SharedModel categorize(
+			SharedCategorizedDomainModels sharedModels,
+			MetadataBuildingContext buildingContext,
+			Class<?>... classes) {
+		var config = new HibernatePersistenceConfiguration( "test" );
+		for ( Class<?> clazz : classes ) {
+			config.managedClass( clazz );
+		}
+		final AvailableResources availableResources = AvailableResources.from( config, buildingContext );
+		final CategorizationFingerprint fingerprint = CategorizationFingerprint.from( availableResources, buildingContext );
+		return sharedModels.categorize( availableResources, buildingContext, fingerprint );
+	}
+
+	@Entity(name = "Other")
+	public static class Other {
+		@Id
+		private Integer id;
+	}
+}
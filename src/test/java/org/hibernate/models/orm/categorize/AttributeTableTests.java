@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.categorize;
+
+import java.util.Set;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.models.categorize.spi.AttributeMetadata;
+import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
+import org.hibernate.boot.models.categorize.spi.DomainModelCategorizer;
+import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
+import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class AttributeTableTests {
+	@Test
+	void mappedSuperclassAttributesPerHierarchy(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( Base.class );
+		config.managedClass( Person.class );
+		config.managedClass( Company.class );
+
+		final CategorizedDomainModel categorizedDomainModel = DomainModelCategorizer.categorize(
+				AvailableResources.from( config, buildingContext ),
+				buildingContext
+		);
+
+		final Set<EntityHierarchy> hierarchies = categorizedDomainModel.getEntityHierarchies();
+		assertThat( hierarchies ).hasSize( 2 );
+
+		final IdentifiableTypeMetadata personBase = findAbsoluteRoot( hierarchies, Person.class );
+		final IdentifiableTypeMetadata companyBase = findAbsoluteRoot( hierarchies, Company.class );
+		assertThat( personBase.getClassDetails().getName() ).isEqualTo( Base.class.getName() );
+		assertThat( companyBase.getClassDetails().getName() ).isEqualTo( Base.class.getName() );
+		assertThat( personBase.getNumberOfAttributes() ).isEqualTo( 2 );
+		assertThat( companyBase.getNumberOfAttributes() ).isEqualTo( 2 );
+
+		final AttributeMetadata personParent = personBase.findAttribute( "parent" );
+		final AttributeMetadata companyParent = companyBase.findAttribute( "parent" );
+		assertThat( personParent.getNature() ).isEqualTo( AttributeNature.TO_ONE );
+		assertThat( personParent.getMember() ).isSameAs( companyParent.getMember() );
+
+		// views are stable per managed type, but distinct between hierarchies
+		assertThat( personBase.findAttribute( "parent" ) ).isEqualTo( personParent );
+		assertThat( personBase.getAttributes() ).contains( personParent );
+		assertThat( companyParent ).isNotEqualTo( personParent );
+		assertThat( personBase.findAttribute( "unknown" ) ).isNull();
+	}
+
+	private static IdentifiableTypeMetadata findAbsoluteRoot(Set<EntityHierarchy> hierarchies, Class<?> rootEntity) {
+		return hierarchies.stream()
+				.filter( (hierarchy) -> hierarchy.getRoot().getClassDetails().getName().equals( rootEntity.getName() ) )
+				.findFirst()
+				.orElseThrow()
+				.getAbsoluteRoot();
+	}
+
+	@MappedSuperclass
+	public static abstract class Base {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Person parent;
+	}
+
+	@Entity(name = "Person")
+	public static class Person extends Base {
+		private String name;
+	}
+
+	@Entity(name = "Company")
+	public static class Company extends Base {
+		private String taxId;
+	}
+}
@@ -6,6 +6,7 @@ package org.hibernate.models.orm.process;
 
 import java.util.List;
 
+import org.hibernate.boot.models.categorize.internal.DomainModelCategorizationCollector;
 import org.hibernate.boot.models.source.AvailableResources;
 import org.hibernate.boot.models.categorize.spi.DomainModelCategorizer;
 import org.hibernate.boot.models.categorize.spi.IdentifiableTypeMetadata;
@@ -13,6 +14,7 @@ import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
 
 import org.junit.jupiter.api.Test;
@@ -55,6 +57,49 @@ public class DomainModelCategorizerTests {
 		}
 	}
 
+	@Test
+	void processorResolvesManagedClassNames() {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final MetadataBuildingContextTestingImpl metadataBuildingContext = new MetadataBuildingContextTestingImpl( serviceRegistry );
+
+			final AvailableResources availableResources = new AvailableResources(
+					null,
+					null,
+					List.of( Root.class.getName(), IncludedLeaf.class.getName() ),
+					null,
+					emptyList()
+			);
+
+			final var result = DomainModelCategorizer.categorize( availableResources, metadataBuildingContext );
+
+			assertThat( result.getEntityHierarchies() ).hasSize( 1 );
+
+			final var hierarchy = result.getEntityHierarchies().iterator().next();
+			assertThat( hierarchy.getRoot().getClassDetails().getClassName() ).isEqualTo( Root.class.getName() );
+			assertThat( hierarchy.getRoot().getSubTypes() )
+					.extracting( IdentifiableTypeMetadata::getClassDetails )
+					.extracting( ClassDetails::getClassName )
+					.containsExactly( IncludedLeaf.class.getName() );
+		}
+	}
+
+	@Test
+	void collectorAppliesEachClassDetailsOnce() {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final MetadataBuildingContextTestingImpl metadataBuildingContext = new MetadataBuildingContextTestingImpl( serviceRegistry );
+			final ModelsContext modelsContext = metadataBuildingContext.getBootstrapContext().getModelsContext();
+			final ClassDetails root = modelsContext.getClassDetailsRegistry().resolveClassDetails( Root.class.getName() );
+
+			final DomainModelCategorizationCollector collector = new DomainModelCategorizationCollector( true, modelsContext );
+			collector.apply( root );
+			collector.apply( root );
+
+			assertThat( collector.getAppliedClassDetailsCount() ).isEqualTo( 1 );
+			assertThat( collector.getDuplicateClassDetailsApplications() ).isEqualTo( 1 );
+			assertThat( collector.getRootEntities() ).containsExactly( root );
+		}
+	}
+
 	@Test
 	void processorCollectsEmbeddablesWithoutCreatingHierarchies() {
 		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
@@ -9,21 +9,26 @@ import java.util.Map;
 
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.models.categorize.internal.GlobalRegistrationsImpl;
 import org.hibernate.boot.models.categorize.spi.CategorizedDomainModel;
 import org.hibernate.boot.models.categorize.spi.EntityHierarchy;
 import org.hibernate.boot.models.categorize.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.categorize.spi.FilterDefRegistration;
+import org.hibernate.boot.models.categorize.spi.GlobalRegistrations;
+import org.hibernate.boot.models.categorize.spi.SequenceGeneratorRegistration;
 import org.hibernate.boot.models.source.AvailableResources;
 import org.hibernate.boot.models.categorize.spi.DomainModelCategorizer;
 import org.hibernate.jpa.HibernatePersistenceConfiguration;
 import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 
 import org.junit.jupiter.api.Test;
 
 import jakarta.persistence.InheritanceType;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Steve Ebersole
@@ -69,6 +74,47 @@ public class SimpleProcessorTests {
 		}
 	}
 
+	@Test
+	void testFrozenResult() {
+		try (StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build()) {
+			final MetadataBuildingContextTestingImpl metadataBuildingContext = new MetadataBuildingContextTestingImpl( serviceRegistry );
+			final HibernatePersistenceConfiguration persistenceConfiguration = new HibernatePersistenceConfiguration( "test" );
+			persistenceConfiguration.managedClass( Person.class );
+			persistenceConfiguration.managedClass( MyStringConverter.class );
+			persistenceConfiguration.managedClass( MyUuidConverter.class );
+			final CategorizedDomainModel categorizedDomainModel = DomainModelCategorizer.categorize(
+					AvailableResources.from( persistenceConfiguration, metadataBuildingContext ),
+					metadataBuildingContext
+			);
+
+			final GlobalRegistrations globalRegistrations = categorizedDomainModel.getGlobalRegistrations();
+			assertThat( globalRegistrations.getConverterRegistrations() ).hasSize( 2 );
+
+			final ClassDetailsRegistry classDetailsRegistry = metadataBuildingContext.getBootstrapContext()
+					.getModelsContext()
+					.getClassDetailsRegistry();
+			final ClassDetails stringType = classDetailsRegistry.resolveClassDetails( String.class.getName() );
+			assertThat( globalRegistrations.getAutoAppliedConverterRegistrations( stringType ) )
+					.extracting( (registration) -> registration.converterType().getClassName() )
+					.containsExactly( MyStringConverter.class.getName() );
+			final ClassDetails integerType = classDetailsRegistry.resolveClassDetails( Integer.class.getName() );
+			assertThat( globalRegistrations.getAutoAppliedConverterRegistrations( integerType ) ).isEmpty();
+
+			assertThatThrownBy( () -> globalRegistrations.getConverterRegistrations().clear() )
+					.isInstanceOf( UnsupportedOperationException.class );
+			assertThatThrownBy( () -> globalRegistrations.getNamedQueryRegistrations().clear() )
+					.isInstanceOf( UnsupportedOperationException.class );
+			assertThatThrownBy( () -> categorizedDomainModel.getEntityHierarchies().clear() )
+					.isInstanceOf( UnsupportedOperationException.class );
+
+			final GlobalRegistrationsImpl registrationsImpl = (GlobalRegistrationsImpl) globalRegistrations;
+			assertThat( registrationsImpl.isFrozen() ).isTrue();
+			assertThatThrownBy( () -> registrationsImpl.collectSequenceGenerator( new SequenceGeneratorRegistration( "late", null ) ) )
+					.isInstanceOf( IllegalStateException.class )
+					.hasMessageContaining( "sequence generator late" );
+		}
+	}
+
 	private void validatePersonHierarchy(EntityHierarchy hierarchy) {
 		assertThat( hierarchy.getInheritanceType() ).isEqualTo( InheritanceType.SINGLE_TABLE );
 		final EntityTypeMetadata personMetadata = hierarchy.getRoot();
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.resources;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.models.categorize.spi.DomainModelCategorizer;
+import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.boot.models.source.AvailableResourcesFingerprint;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class AvailableResourcesFingerprintTests {
+	@Test
+	void unchangedResourcesProduceEmptyDiff(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		var classLoading = registryScope.getRegistry().requireService( ClassLoaderService.class );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( SimpleEntity.class );
+		config.mappingFile( "mappings/available.xml" );
+
+		var first = AvailableResourcesFingerprint.from( AvailableResources.from( config, buildingContext ), classLoading );
+		var second = AvailableResourcesFingerprint.from( AvailableResources.from( config, buildingContext ), classLoading );
+
+		assertThat( first.classHashes() ).containsOnlyKeys( SimpleEntity.class.getName() );
+		assertThat( first.classHashes().get( SimpleEntity.class.getName() ) ).isNotNull();
+		assertThat( first.mappingHashes() ).containsOnlyKeys( "mappings/available.xml#0" );
+		assertThat( second.diff( first ).isEmpty() ).isTrue();
+	}
+
+	@Test
+	void documentsSharingANameAreKeptApart(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		var classLoading = registryScope.getRegistry().requireService( ClassLoaderService.class );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.mappingFile( "mappings/available.xml" );
+		config.mappingFile( "mappings/available.xml" );
+
+		var fingerprint = AvailableResourcesFingerprint.from( AvailableResources.from( config, buildingContext ), classLoading );
+		assertThat( fingerprint.mappingHashes() ).containsOnlyKeys( "mappings/available.xml#0", "mappings/available.xml#1" );
+	}
+
+	@Test
+	void resolvedClassesAreCovered(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+		var classLoading = registryScope.getRegistry().requireService( ClassLoaderService.class );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( SimpleEntity.class );
+		config.mappingFile( "mappings/available.xml" );
+		var availableResources = AvailableResources.from( config, buildingContext );
+
+		var explicit = AvailableResourcesFingerprint.from( availableResources, classLoading );
+		// MappedEntity is only named in the mapping document
+		assertThat( explicit.classHashes() ).containsOnlyKeys( SimpleEntity.class.getName() );
+
+		DomainModelCategorizer.categorize( availableResources, buildingContext );
+		var resolved = explicit.withResolvedClasses(
+				buildingContext.getBootstrapContext().getModelsContext().getClassDetailsRegistry(),
+				classLoading,
+				null
+		);
+		assertThat( resolved.classHashes() )
+				.containsKeys( SimpleEntity.class.getName(), MappedEntity.class.getName() )
+				.doesNotContainKeys( String.class.getName(), Integer.class.getName() );
+		assertThat( resolved.classHashes().get( SimpleEntity.class.getName() ) )
+				.isEqualTo( explicit.classHashes().get( SimpleEntity.class.getName() ) );
+		assertThat( resolved.isCurrent( classLoading, null ) ).isTrue();
+
+		var outdated = new AvailableResourcesFingerprint(
+				Map.of( MappedEntity.class.getName(), "0" ),
+				resolved.mappingHashes()
+		);
+		assertThat( outdated.isCurrent( classLoading, null ) ).isFalse();
+	}
+
+	@Test
+	void addedAndRemovedClassesAreReported(ServiceRegistryScope registryScope) {
+		var classLoading = registryScope.getRegistry().requireService( ClassLoaderService.class );
+
+		var previous = AvailableResourcesFingerprint.from(
+				new AvailableResources( null, null, List.of( SimpleEntity.class.getName() ), null, emptyList() ),
+				classLoading
+		);
+		var current = AvailableResourcesFingerprint.from(
+				new AvailableResources( null, null, List.of( MappedEntity.class.getName() ), null, emptyList() ),
+				classLoading
+		);
+
+		var diff = current.diff( previous );
+		assertThat( diff.addedClasses() ).containsExactly( MappedEntity.class.getName() );
+		assertThat( diff.removedClasses() ).containsExactly( SimpleEntity.class.getName() );
+		assertThat( diff.changedClasses() ).isEmpty();
+	}
+
+	@Test
+	void namesWithoutClassFilesAreSkipped(ServiceRegistryScope registryScope) {
+		var classLoading = registryScope.getRegistry().requireService( ClassLoaderService.class );
+
+		var availableResources = new AvailableResources(
+				null,
+				null,
+				List.of( SimpleEntity.class.getName(), "org.hibernate.models.orm.resources.DynamicType" ),
+				List.of( "org.hibernate.models.orm.missing.package-info" ),
+				emptyList()
+		);
+		var first = AvailableResourcesFingerprint.from( availableResources, classLoading );
+		var second = AvailableResourcesFingerprint.from( availableResources, classLoading );
+
+		assertThat( first.classHashes() ).containsOnlyKeys( SimpleEntity.class.getName() );
+		assertThat( second.diff( first ).isEmpty() ).isTrue();
+		assertThat( first.isCurrent( classLoading, null ) ).isTrue();
+	}
+
+	@Test
+	void changedHashesAreReported() {
+		var previous = new AvailableResourcesFingerprint(
+				Map.of( "a.Entity", "1", "b.Entity", "2" ),
+				Map.of( "orm.xml", "3" )
+		);
+		var current = new AvailableResourcesFingerprint(
+				Map.of( "a.Entity", "1", "b.Entity", "22" ),
+				Map.of( "orm.xml", "33" )
+		);
+
+		var diff = current.diff( previous );
+		assertThat( diff.changedClasses() ).containsExactly( "b.Entity" );
+		assertThat( diff.changedDocuments() ).containsExactly( "orm.xml" );
+		assertThat( diff.addedClasses() ).isEmpty();
+		assertThat( diff.removedDocuments() ).isEmpty();
+	}
+}
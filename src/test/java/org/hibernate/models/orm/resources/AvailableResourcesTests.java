@@ -5,6 +5,7 @@
 package org.hibernate.models.orm.resources;
 
 import org.hibernate.boot.models.source.AvailableResources;
+import org.hibernate.boot.models.source.xml.XmlResourceException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.jpa.HibernatePersistenceConfiguration;
 import org.hibernate.jpa.boot.internal.PersistenceUnitInfoDescriptor;
@@ -15,8 +16,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Steve Ebersole
@@ -29,6 +33,8 @@ public class AvailableResourcesTests {
 
 		assertThat( availableResources.managedClassDetails() ).isEmpty();
 		assertThat( availableResources.packageDetails() ).isEmpty();
+		assertThat( availableResources.managedClassNames() ).isEmpty();
+		assertThat( availableResources.packageNames() ).isEmpty();
 		assertThat( availableResources.xmlMappings() ).isEmpty();
 	}
 
@@ -44,11 +50,58 @@ public class AvailableResourcesTests {
 
 		var modelSources = AvailableResources.from( config, buildingContext );
 
-		assertThat( modelSources.managedClassDetails() ).hasSize( 1 );
-		assertThat( modelSources.packageDetails() ).hasSize( 1 );
+		assertThat( modelSources.managedClassDetails() ).isEmpty();
+		assertThat( modelSources.packageDetails() ).isEmpty();
+		assertThat( modelSources.managedClassNames() ).containsExactly( SimpleEntity.class.getName() );
+		assertThat( modelSources.packageNames() ).containsExactly( "org.hibernate.models.orm.resources.package-info" );
 		assertThat( modelSources.xmlMappings() ).hasSize( 1 );
 	}
 
+	@Test
+	void testMappingFilesReadThroughExecutor(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.managedClass( SimpleEntity.class );
+		config.mappingFile( "mappings/available.xml" );
+		config.mappingFile( "mappings/available.xml" );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			var modelSources = AvailableResources.from( config, buildingContext, executor );
+
+			assertThat( modelSources.managedClassNames() ).containsExactly( SimpleEntity.class.getName() );
+			assertThat( modelSources.xmlMappings() ).hasSize( 2 );
+			assertThat( modelSources.xmlMappings() )
+					.allSatisfy( (binding) -> assertThat( binding.getOrigin().getName() ).isEqualTo( "mappings/available.xml" ) );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testMissingMappingFile(ServiceRegistryScope registryScope) {
+		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
+
+		var config = new HibernatePersistenceConfiguration( "test" );
+		config.mappingFile( "mappings/does-not-exist.xml" );
+
+		assertThatThrownBy( () -> AvailableResources.from( config, buildingContext ) )
+				.isInstanceOf( XmlResourceException.class )
+				.hasMessageContaining( "mappings/does-not-exist.xml" );
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertThatThrownBy( () -> AvailableResources.from( config, buildingContext, executor ) )
+					.isInstanceOf( XmlResourceException.class )
+					.hasMessageContaining( "mappings/does-not-exist.xml" );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	void testPersistenceUnitInfoSource(ServiceRegistryScope registryScope) {
 		var buildingContext = new MetadataBuildingContextTestingImpl( registryScope.getRegistry() );
@@ -61,8 +114,10 @@ public class AvailableResourcesTests {
 		var puiWrapper = new PersistenceUnitInfoDescriptor( pui );
 		var modelSources = AvailableResources.from( puiWrapper, buildingContext );
 
-		assertThat( modelSources.managedClassDetails() ).hasSize( 1 );
-		assertThat( modelSources.packageDetails() ).hasSize( 1 );
+		assertThat( modelSources.managedClassDetails() ).isEmpty();
+		assertThat( modelSources.packageDetails() ).isEmpty();
+		assertThat( modelSources.managedClassNames() ).containsExactly( SimpleEntity.class.getName() );
+		assertThat( modelSources.packageNames() ).containsExactly( "org.hibernate.models.orm.resources.package-info" );
 		assertThat( modelSources.xmlMappings() ).hasSize( 1 );
 	}
 